@@ -1,6 +1,11 @@
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Heap <E> {
 
@@ -27,10 +32,35 @@ public class Heap <E> {
         2. 오른쪽 자식 노드 인덱스 = 부모 노드 인덱스 * 2 + 1
         3. 부모 노드 인덱스 = 자식 노드 인덱스 / 2
 
+        # d-ary 힙
+
+        자식의 수 ( arity ) 를 d 로 늘리면 트리의 높이가 log_d(N) 으로 낮아진다.
+
+        형제 노드들은 배열에서 연속으로 붙어 있기 때문에 같은 캐시 라인에서 읽히고
+
+        remove 할 때 내려가야 하는 단계 수와 캐시 미스가 줄어든다. 대신 한 단계에서 d 개의 자식을 비교한다.
+
+        1 번 인덱스부터 사용하는 d-ary 힙의 성질 ( d = 2 이면 위의 이진 힙과 같다. )
+        1. 첫 번째 자식 노드 인덱스 = d * ( 부모 노드 인덱스 - 1 ) + 2
+        2. 마지막 자식 노드 인덱스 = d * 부모 노드 인덱스 + 1
+        3. 부모 노드 인덱스 = ( 자식 노드 인덱스 - 2 ) / d + 1
+
+        # 크기 제한 ( top-K ) 힙
+
+        최대 K 개의 요소만 유지하는 모드로 만들 수 있다. 배열은 처음에 K 크기로 한 번만 만들고 resize 하지 않는다.
+
+        가득 찬 상태에서 add 하면 루트 ( 가장 우선순위가 낮은 요소 ) 보다 큰 값만 루트를 대신해서 들어간다.
+
+        최소 힙으로 K 개를 유지하면 스트림에서 가장 큰 K 개가 남는다.
+
      */
 
     private final Comparator<? super E> comparator;
     private static final int DEFAULT_CAPACITY = 10; // 기본 크기
+    private static final int DEFAULT_ARITY = 2; // 기본 자식 수 ( 이진 힙 )
+
+    private final int arity; // 한 노드가 가질 수 있는 자식 수
+    private final int maxSize; // top-K 모드에서 유지할 최대 요소 수 ( 0 이면 제한 없음 )
 
     private int size; // 데이터 갯수
 
@@ -38,13 +68,11 @@ public class Heap <E> {
 
     // 생성자
     public Heap() {
-        this(null);
+        this((Comparator<? super E>) null);
     }
 
     public Heap(Comparator<? super E> comparator) {
-        this.array = new Object[DEFAULT_CAPACITY];
-        this.size = 0;
-        this.comparator = comparator;
+        this(DEFAULT_CAPACITY, DEFAULT_ARITY, comparator);
     }
 
     public Heap(int capacity) {
@@ -52,24 +80,78 @@ public class Heap <E> {
     }
 
     public Heap(int capacity, Comparator<? super E> comparator) {
+        this(capacity, DEFAULT_ARITY, comparator);
+    }
+
+    // 자식 수를 지정하는 생성자 ( 4, 8 등 )
+    public Heap(int capacity, int arity) {
+        this(capacity, arity, null);
+    }
+
+    public Heap(int capacity, int arity, Comparator<? super E> comparator) {
+        this(capacity, arity, comparator, 0);
+    }
+
+    // 최대 maxSize 개의 요소만 유지하는 top-K 힙 생성자 ( bounded 가 false 이면 일반 힙과 같다. )
+    public Heap(int maxSize, boolean bounded) {
+        this(maxSize, bounded, null);
+    }
+
+    public Heap(int maxSize, boolean bounded, Comparator<? super E> comparator) {
+        this(initialCapacity(maxSize, bounded), DEFAULT_ARITY, comparator, bounded ? maxSize : 0);
+    }
+
+    // 배열을 만들기 전에 maxSize 를 확인해야 하므로 this(...) 의 인자 안에서 호출한다.
+    private static int initialCapacity(int maxSize, boolean bounded) {
+        if (!bounded) return maxSize;
+
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize 는 1 이상이어야 합니다.");
+
+        return maxSize + 2;
+    }
+
+    private Heap(int capacity, int arity, Comparator<? super E> comparator, int maxSize) {
+        if (arity < 2) throw new IllegalArgumentException("arity 는 2 이상이어야 합니다.");
+
         this.array = new Object[capacity];
         this.size = 0;
+        this.arity = arity;
+        this.maxSize = maxSize;
         this.comparator = comparator;
     }
 
+    // 배열이나 컬렉션의 요소들을 한 번에 담아 힙을 구성하는 생성자 ( O(N) )
+    public Heap(E[] values) {
+        this(values, null);
+    }
+
+    public Heap(E[] values, Comparator<? super E> comparator) {
+        this(Math.max(DEFAULT_CAPACITY, values.length + 2), DEFAULT_ARITY, comparator);
+        addAll(values);
+    }
+
+    public Heap(Collection<? extends E> values) {
+        this(values, null);
+    }
+
+    public Heap(Collection<? extends E> values, Comparator<? super E> comparator) {
+        this(Math.max(DEFAULT_CAPACITY, values.size() + 2), DEFAULT_ARITY, comparator);
+        addAll(values);
+    }
+
     // 부모 노드의 인덱스를 가져오는 메소드
     private int getParent(int index) {
-        return index / 2;
+        return (index - 2) / arity + 1;
     }
 
-    // 왼쪽 자식 노드의 인덱스를 가져오는 메소드
+    // 왼쪽 ( 첫 번째 ) 자식 노드의 인덱스를 가져오는 메소드
     private int getLeftChild(int index) {
-        return index * 2;
+        return arity * (index - 1) + 2;
     }
 
-    // 오른쪽 자식 노드의 인덱스를 가져오는 메소드
+    // 오른쪽 ( 마지막 ) 자식 노드의 인덱스를 가져오는 메소드
     private int getRightChild(int index) {
-        return index * 2 + 1;
+        return arity * index + 1;
     }
 
     // 동적 할당을 위한 resize 메소드
@@ -91,12 +173,102 @@ public class Heap <E> {
     // 트리의 마지막 노드에 데이터를 추가하고 힙 규칙에 따라 재배치 ( siftUp )
     public void add(E value) {
 
+        // top-K 모드에서 가득 찬 경우 루트보다 큰 값만 루트와 교체한다.
+        if (maxSize > 0 && size == maxSize) {
+            pushPop(value);
+            return;
+        }
+
         if (size + 1 == array.length) resize(array.length * 2);
 
         siftUp(size + 1, value);
         size++;
     }
 
+    /*
+        여러 요소를 한 번에 추가하는 addAll 메소드
+
+        add 를 N 번 호출하면 O(NlogN) 이 걸리고 그 사이에 resize 가 여러 번 일어날 수 있다.
+
+        addAll 은 배열의 크기를 한 번만 늘린 뒤 요소들을 뒤에 이어 붙이고 재배치한다.
+     */
+    public void addAll(E[] values) {
+
+        if (values.length == 0) return;
+
+        // top-K 모드에서는 배열을 늘리지 않으므로 하나씩 추가한다.
+        if (maxSize > 0) {
+            for (E value : values) add(value);
+            return;
+        }
+
+        ensureCapacity(size + values.length);
+
+        int oldSize = size;
+        System.arraycopy(values, 0, array, size + 1, values.length);
+        size += values.length;
+
+        rebuild(oldSize);
+    }
+
+    public void addAll(Collection<? extends E> values) {
+
+        if (values.isEmpty()) return;
+
+        if (maxSize > 0) {
+            for (E value : values) add(value);
+            return;
+        }
+
+        ensureCapacity(size + values.size());
+
+        int oldSize = size;
+        for (E value : values) {
+            array[++size] = value;
+        }
+
+        rebuild(oldSize);
+    }
+
+    // 요소가 count 개가 되어도 add 할 수 있도록 배열의 크기를 한 번에 늘려주는 메소드
+    private void ensureCapacity(int count) {
+        if (count + 1 >= array.length) {
+            resize(Math.max(array.length * 2, count + 2));
+        }
+    }
+
+    /*
+        oldSize 이후에 이어 붙인 요소들을 힙 규칙에 맞게 재배치하는 메소드
+
+        새로 붙인 요소가 기존 요소보다 많으면 전체를 heapify 하는 것이 ( O(N) ) 하나씩 siftUp 하는 것보다 빠르다.
+     */
+    @SuppressWarnings("unchecked")
+    private void rebuild(int oldSize) {
+
+        if (size - oldSize > oldSize) {
+            heapify();
+            return;
+        }
+
+        for (int i = oldSize + 1; i <= size; i++) {
+            siftUp(i, (E) array[i]);
+        }
+    }
+
+    /*
+        Floyd 의 bottom-up heapify
+
+        마지막 노드의 부모부터 루트까지 거꾸로 올라가면서 각 노드를 siftDown 한다.
+
+        아래쪽 노드일수록 내려갈 거리가 짧기 때문에 전체 비용은 O(N) 이다.
+     */
+    @SuppressWarnings("unchecked")
+    private void heapify() {
+        for (int i = getParent(size); i >= 1; i--) {
+            siftDown(i, (E) array[i]);
+        }
+    }
+
     // Comparator 가 존재할 경우와 존재하지 않는 경우로 나누어서 처리
     private void siftUp(int idx, E target) {
 
@@ -159,13 +331,88 @@ public class Heap <E> {
         E result = (E) array[1]; // 삭제된 요소를 반환하기 위한 변수 생성
         E target = (E) array[size]; // 타겟이 될 요소
         array[size] = null; // 타겟 노드를 비운다.
+        size--;
+
+        // 마지막 남은 노드를 삭제한 경우 재배치할 노드가 없다.
+        if (size == 0) return result;
 
         // 가장 마지막 노드를 루트로 보낸 뒤, 아래로 가면서 힙의 규칙에 맞게 재배치
         siftDown(1, target);
 
+        // 용적에 비해 요소가 25 % 미만으로 남으면 용적을 반으로 줄인다. ( 단, 기본 크기보다는 커야 하며 top-K 모드는 제외 )
+        if (maxSize == 0 && array.length > DEFAULT_CAPACITY && size < array.length / 4) {
+            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
+        }
+
         return result;
     }
 
+    /*
+        루트를 삭제하고 새로운 값을 추가하는 replaceTop 메소드
+
+        remove 후 add 를 하면 siftDown, siftUp 을 한 번씩 하고 resize 가 일어날 수도 있지만
+
+        새로운 값을 바로 루트에 두고 siftDown 한 번으로 재배치한다.
+     */
+    @SuppressWarnings("unchecked")
+    public E replaceTop(E value) {
+
+        if (size == 0) throw new NoSuchElementException();
+
+        E result = (E) array[1];
+        siftDown(1, value);
+
+        return result;
+    }
+
+    /*
+        새로운 값을 추가한 뒤 루트를 삭제하는 pushPop 메소드
+
+        새로운 값이 루트보다 작거나 같다면 추가하자마자 삭제될 값이므로 그대로 돌려준다.
+
+        그렇지 않으면 replaceTop 과 같이 siftDown 한 번으로 처리한다.
+     */
+    @SuppressWarnings("unchecked")
+    public E pushPop(E value) {
+
+        if (size == 0 || compare(value, (E) array[1]) <= 0) return value;
+
+        return replaceTop(value);
+    }
+
+    /*
+        남아있는 요소들을 우선순위 순서대로 ( 최소 힙이라면 오름차순 ) dest 배열에 옮겨 담는 drainSorted 메소드
+
+        remove 와 같은 방식으로 재배치하지만 resize 는 하지 않으며 옮겨 담은 요소의 개수를 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainSorted(E[] dest) {
+
+        if (dest.length < size) throw new IllegalArgumentException("dest 배열의 크기가 부족합니다.");
+
+        int count = size;
+
+        for (int i = 0; i < count; i++) {
+            dest[i] = (E) array[1];
+
+            E target = (E) array[size];
+            array[size] = null;
+            size--;
+
+            if (size > 0) siftDown(1, target);
+        }
+
+        return count;
+    }
+
+    // pushPop 처럼 한 번만 비교하는 경우에 사용하는 비교 메소드
+    @SuppressWarnings("unchecked")
+    private int compare(E a, E b) {
+        if (comparator != null) return comparator.compare(a, b);
+
+        return ((Comparable<? super E>) a).compareTo(b);
+    }
+
     private void siftDown(int idx, E target) {
 
         if (comparator != null) {
@@ -179,7 +426,6 @@ public class Heap <E> {
     private void siftDownComparator(int idx, E target, Comparator<? super E> comp) {
 
         array[idx] = null; // 루트에 있는 값을 삭제
-        size--;
 
         int parent = idx;
         int child;
@@ -187,18 +433,20 @@ public class Heap <E> {
         // 왼쪽 자식 노드의 인덱스가 요소의 개수보다 작을 때까지 반복
         while ((child = getLeftChild(parent)) <= size) {
 
-            int right = getRightChild(parent); // 오른쪽 자식 인덱스
+            int right = Math.min(getRightChild(parent), size); // 마지막 자식 인덱스
 
             Object childVal = array[child]; // 왼쪽 자식 노드의 값 ( 교환될 값 )
 
 
             /*
-                오른쪽 자식 인덱스가 size 를 넘지 않으면서 왼쪽 자식이 오른쪽 자식보다 큰 경우
-                재배치할 노드는 작은 자식과 비교해야 하므로 child 와 childVal 을 오른쪽 자식으로 교체
+                size 를 넘지 않는 나머지 자식들 중 더 작은 자식이 있는 경우
+                재배치할 노드는 가장 작은 자식과 비교해야 하므로 child 와 childVal 을 그 자식으로 교체
              */
-            if (right <= size && comp.compare((E) childVal, (E) array[right]) > 0) {
-                child = right;
-                childVal = array[child];
+            for (int i = child + 1; i <= right; i++) {
+                if (comp.compare((E) childVal, (E) array[i]) > 0) {
+                    child = i;
+                    childVal = array[child];
+                }
             }
 
             // 재배치할 노드가 자식 노드보다 작을 경우 반복문 종료
@@ -211,10 +459,6 @@ public class Heap <E> {
         }
 
         array[parent] = target;
-
-        if (array.length > DEFAULT_CAPACITY && size < array.length / 4) {
-            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
-        }
     }
 
     // 위의 메소드와 원리는 동일 
@@ -222,19 +466,20 @@ public class Heap <E> {
         Comparable<? super E> comp = (Comparable<? super E>) target;
 
         array[idx] = null;
-        size--;
 
         int parent = idx;
         int child;
 
         while((child = getLeftChild(parent)) <= size) {
-            int right = getRightChild(parent);
+            int right = Math.min(getRightChild(parent), size);
 
             Object childVal = array[child];
 
-            if (right <= size && ((Comparable<? super E>) childVal).compareTo((E)array[right]) >0) {
-                child = right;
-                childVal = array[child];
+            for (int i = child + 1; i <= right; i++) {
+                if (((Comparable<? super E>) childVal).compareTo((E) array[i]) > 0) {
+                    child = i;
+                    childVal = array[child];
+                }
             }
 
             if (comp.compareTo((E) childVal) <= 0) {
@@ -247,10 +492,6 @@ public class Heap <E> {
         }
 
         array[parent] = comp;
-
-        if (array.length > DEFAULT_CAPACITY && size < array.length / 4) {
-            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
-        }
     }
 
     // 이하 설명 생략
@@ -272,5 +513,22 @@ public class Heap <E> {
         return Arrays.copyOf(array, size + 1);
     }
 
+    /*
+        배열의 [1, size] 구간을 반으로 나누는 Spliterator ( SIZED | SUBSIZED )
+
+        힙 배열은 부모가 자식보다 작다는 것만 보장하고 배열의 순서가 우선순위 순서는 아니므로 ORDERED 가 아니다.
+
+        MinMaxHeap, 기본형 힙, queue.PriorityQueue 도 같은 방식으로 나눈다.
+     */
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, 1, size + 1, 0);
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,103 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class KWayMerge <E> implements Iterator<E> {
+
+    /*
+        # K-way 병합 ( K-way Merge )
+
+        정렬된 K 개의 입력을 하나의 정렬된 출력으로 합친다. 외부 정렬에서 정렬된 파일들을 합칠 때 사용한다.
+
+        각 입력의 맨 앞 요소 ( head ) 만 Heap 에 넣어두면 루트가 다음으로 나올 요소가 된다.
+
+        Heap 에는 요소 대신 입력의 번호를 넣고 ( head 값, 입력 번호 ) 순서로 비교하기 때문에
+
+        같은 값이면 앞쪽 입력의 요소가 먼저 나온다. ( 안정 정렬 )
+
+        요소를 하나 꺼낼 때마다 해당 입력에서 다음 요소를 하나만 가져오고 replaceTop 으로 siftDown 한 번만 한다.
+
+        입력 번호는 처음에 한 번만 박싱해두므로 요소를 꺼낼 때 새로 만드는 객체가 없으며 메모리는 O(K) 이다.
+
+        시간 복잡도 : O(logK) - 요소 하나 / 비교 횟수를 더 줄인 LoserTreeMerge 도 있다.
+     */
+
+    private final Iterator<? extends E>[] sources; // 입력들
+    private final Object[] heads; // 입력별 맨 앞 요소
+    private final Heap<Integer> heap; // head 가 남아있는 입력의 번호를 담는 힙
+
+    public KWayMerge(List<? extends Iterator<? extends E>> sources) {
+        this(sources, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public KWayMerge(List<? extends Iterator<? extends E>> sources, Comparator<? super E> comparator) {
+
+        int k = sources.size();
+
+        this.sources = (Iterator<? extends E>[]) sources.toArray(new Iterator<?>[k]);
+        this.heads = new Object[k];
+
+        Comparator<? super E> order = comparator != null
+                ? comparator
+                : (a, b) -> ((Comparable<? super E>) a).compareTo(b);
+
+        // head 값이 같으면 입력 번호가 작은 쪽이 먼저 나오도록 비교한다.
+        this.heap = new Heap<>(k + 2, (x, y) -> {
+            int result = order.compare((E) heads[x], (E) heads[y]);
+            return result != 0 ? result : Integer.compare(x, y);
+        });
+
+        Integer[] initial = new Integer[k];
+        int count = 0;
+
+        for (int i = 0; i < k; i++) {
+            if (this.sources[i].hasNext()) {
+                heads[i] = this.sources[i].next();
+                initial[count++] = i;
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            heap.add(initial[i]);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    // 루트에 있는 입력의 head 를 꺼내고, 그 입력의 다음 요소로 교체한 뒤 재배치하는 next 메소드
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+
+        if (heap.isEmpty()) throw new NoSuchElementException();
+
+        Integer source = heap.peek();
+        int i = source;
+
+        E result = (E) heads[i];
+
+        if (sources[i].hasNext()) {
+            heads[i] = sources[i].next();
+            heap.replaceTop(source);
+        } else {
+            heads[i] = null;
+            heap.remove();
+        }
+
+        return result;
+    }
+
+    // 병합 결과를 필요할 때마다 하나씩 가져오는 Stream 으로 반환하는 메소드
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+    }
+}
@@ -0,0 +1,187 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+public class LongHeap {
+
+    /*
+        # 기본형 힙 ( LongHeap )
+
+        Heap<E> 는 모든 요소를 Object[] 배열에 담기 때문에 long 값을 넣으면 매번 Long 객체로 박싱되고
+
+        비교할 때마다 Comparable / Comparator 인터페이스 호출이 일어난다.
+
+        LongHeap 은 키를 long[] 배열에 그대로 담아 박싱 없이 최소 힙을 구성한다.
+
+        필요하다면 키와 같은 인덱스를 사용하는 int[] payload 배열을 함께 두어 키에 딸린 값 ( 작업 id 등 ) 을 같이 옮긴다.
+
+        배열 구조와 add / remove / peek 의 의미는 Heap 과 동일하다. ( 1 번 인덱스부터 사용 )
+
+        단, 크기를 줄이는 resize 는 하지 않는다. 추가와 삭제가 반복될 때 배열을 다시 만들지 않도록 하기 위함이며
+
+        한 번 늘어난 배열은 clear 후에도 재사용된다.
+     */
+
+    private static final int DEFAULT_CAPACITY = 10; // 기본 크기
+
+    private int size; // 데이터 갯수
+
+    private long[] keys; // 키를 담는 배열
+    private int[] payloads; // 키와 같은 인덱스에 담기는 부가 데이터 배열 ( 사용하지 않으면 null )
+
+    // 생성자
+    public LongHeap() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    public LongHeap(int capacity) {
+        this(capacity, false);
+    }
+
+    public LongHeap(int capacity, boolean withPayload) {
+        // 1 번 인덱스부터 사용하므로 최소 2 칸은 필요하다.
+        capacity = Math.max(2, capacity);
+
+        this.keys = new long[capacity];
+        this.payloads = withPayload ? new int[capacity] : null;
+        this.size = 0;
+    }
+
+    // 동적 할당을 위한 resize 메소드 ( 늘리는 경우에만 사용 )
+    private void resize(int newCapacity) {
+        keys = Arrays.copyOf(keys, newCapacity);
+
+        if (payloads != null) payloads = Arrays.copyOf(payloads, newCapacity);
+    }
+
+    // 키만 추가하는 add 메소드
+    public void add(long key) {
+        if (payloads != null) throw new IllegalStateException("payload 를 사용하는 힙입니다.");
+
+        if (size + 1 == keys.length) resize(keys.length * 2);
+
+        siftUp(size + 1, key, 0);
+        size++;
+    }
+
+    // 키와 payload 를 함께 추가하는 add 메소드
+    public void add(long key, int payload) {
+        if (payloads == null) throw new IllegalStateException("payload 를 사용하지 않는 힙입니다.");
+
+        if (size + 1 == keys.length) resize(keys.length * 2);
+
+        siftUp(size + 1, key, payload);
+        size++;
+    }
+
+    // Heap 의 siftUpComparable 과 원리는 동일하며 비교는 기본형 연산자로 한다.
+    private void siftUp(int idx, long key, int payload) {
+
+        while (idx > 1) {
+            int parent = idx >>> 1;
+            long parentKey = keys[parent];
+
+            if (key >= parentKey) {
+                break;
+            }
+
+            keys[idx] = parentKey;
+            if (payloads != null) payloads[idx] = payloads[parent];
+            idx = parent;
+        }
+
+        keys[idx] = key;
+        if (payloads != null) payloads[idx] = payload;
+    }
+
+    // 루트의 키를 삭제하고 반환하는 remove 메소드, payload 가 필요하면 먼저 peekPayload 로 확인한다.
+    public long remove() {
+
+        if (size == 0) throw new NoSuchElementException();
+
+        long result = keys[1];
+        long target = keys[size];
+        int targetPayload = payloads != null ? payloads[size] : 0;
+        size--;
+
+        // 가장 마지막 노드를 루트로 보낸 뒤, 아래로 가면서 힙의 규칙에 맞게 재배치
+        if (size > 0) siftDown(1, target, targetPayload);
+
+        return result;
+    }
+
+    private void siftDown(int idx, long key, int payload) {
+
+        int parent = idx;
+        int child;
+
+        while ((child = parent << 1) <= size) {
+
+            int right = child + 1;
+            long childKey = keys[child];
+
+            // 작은 자식과 비교해야 하므로 오른쪽 자식이 더 작으면 교체
+            if (right <= size && childKey > keys[right]) {
+                child = right;
+                childKey = keys[child];
+            }
+
+            if (key <= childKey) {
+                break;
+            }
+
+            keys[parent] = childKey;
+            if (payloads != null) payloads[parent] = payloads[child];
+            parent = child;
+        }
+
+        keys[parent] = key;
+        if (payloads != null) payloads[parent] = payload;
+    }
+
+    // 이하 설명 생략
+    public long peek() {
+        if (size == 0) throw new NoSuchElementException();
+
+        return keys[1];
+    }
+
+    public int peekPayload() {
+        if (payloads == null) throw new IllegalStateException("payload 를 사용하지 않는 힙입니다.");
+        if (size == 0) throw new NoSuchElementException();
+
+        return payloads[1];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(keys, size + 1);
+    }
+
+    // keys 배열의 [1, size] 구간을 박싱 없이 나누는 Spliterator ( Heap 의 spliterator 와 동일 )
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(keys, 1, size + 1, 0);
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+}
@@ -0,0 +1,138 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class LoserTreeMerge <E> implements Iterator<E> {
+
+    /*
+        # 패자 트리 ( Loser Tree ) 를 이용한 K-way 병합
+
+        KWayMerge 와 같은 일을 하지만 Heap 대신 토너먼트 트리를 사용한다.
+
+        입력 K 개를 잎 ( leaf ) 으로 하는 완전 이진 트리를 만들고, 각 내부 노드에는 그 경기에서 진 입력의 번호를 기록한다.
+
+        최종 승자는 tree[0] 에 기록하며 다음으로 나올 요소를 가진 입력이 된다.
+
+        승자의 요소를 꺼낸 뒤에는 그 입력의 잎에서 루트까지 올라가며 각 노드의 패자와 한 번씩만 비교하면 된다.
+
+        Heap 의 siftDown 은 한 단계마다 두 자식을 비교한 뒤 자신과 비교하지만 ( 2 번 ) 패자 트리는 한 번이면 되므로
+
+        비교 비용이 큰 요소를 병합할 때 유리하다.
+
+        배열 구성 : 잎 i 는 노드 K + i 에 있다고 보고, 내부 노드 n 의 자식은 2n, 2n + 1 이다. ( 1 ~ K - 1 번 노드 사용 )
+     */
+
+    private final Iterator<? extends E>[] sources; // 입력들
+    private final Object[] heads; // 입력별 맨 앞 요소
+    private final boolean[] exhausted; // 입력이 끝났는지 여부 ( 끝난 입력은 항상 진다. )
+    private final int[] tree; // 내부 노드마다 진 입력의 번호, 0 번은 최종 승자
+    private final Comparator<? super E> comparator;
+
+    public LoserTreeMerge(List<? extends Iterator<? extends E>> sources) {
+        this(sources, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public LoserTreeMerge(List<? extends Iterator<? extends E>> sources, Comparator<? super E> comparator) {
+
+        int k = sources.size();
+
+        this.sources = (Iterator<? extends E>[]) sources.toArray(new Iterator<?>[k]);
+        this.heads = new Object[k];
+        this.exhausted = new boolean[k];
+        this.tree = new int[Math.max(1, k)];
+        this.comparator = comparator;
+
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+
+        if (k == 0) {
+            tree[0] = -1;
+        } else {
+            tree[0] = build(1);
+        }
+    }
+
+    // 입력 i 의 다음 요소를 head 로 가져오는 메소드
+    private void advance(int i) {
+        if (sources[i].hasNext()) {
+            heads[i] = sources[i].next();
+        } else {
+            heads[i] = null;
+            exhausted[i] = true;
+        }
+    }
+
+    // node 를 루트로 하는 서브트리의 경기를 치르고 승자를 반환하는 메소드 ( 처음 한 번만 사용 )
+    private int build(int node) {
+
+        int k = sources.length;
+
+        if (node >= k) return node - k;
+
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+
+        tree[node] = left;
+        return right;
+    }
+
+    // 입력 a 의 head 가 입력 b 의 head 보다 먼저 나와야 하는지 확인하는 메소드
+    @SuppressWarnings("unchecked")
+    private boolean beats(int a, int b) {
+
+        if (exhausted[a]) return false;
+        if (exhausted[b]) return true;
+
+        int result = comparator != null
+                ? comparator.compare((E) heads[a], (E) heads[b])
+                : ((Comparable<? super E>) heads[a]).compareTo((E) heads[b]);
+
+        return result < 0 || (result == 0 && a < b);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return tree[0] >= 0 && !exhausted[tree[0]];
+    }
+
+    // 승자의 head 를 꺼내고, 그 입력의 잎부터 루트까지 다시 경기를 치르는 next 메소드
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+
+        if (!hasNext()) throw new NoSuchElementException();
+
+        int winner = tree[0];
+        E result = (E) heads[winner];
+
+        advance(winner);
+
+        for (int node = (winner + sources.length) / 2; node >= 1; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+
+        tree[0] = winner;
+        return result;
+    }
+
+    // 병합 결과를 필요할 때마다 하나씩 가져오는 Stream 으로 반환하는 메소드
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+    }
+}
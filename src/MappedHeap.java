@@ -0,0 +1,228 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+public class MappedHeap implements Closeable {
+
+    /*
+        # 파일에 매핑된 힙 ( MappedHeap )
+
+        Heap 과 같은 1 번 인덱스부터 사용하는 배열 구조를 Java 힙 메모리가 아니라 메모리 매핑된 파일 위에 만든다.
+
+        각 노드는 long 키 + long payload 로 이루어진 16 바이트 고정 길이 레코드이며
+
+        i 번 노드는 파일의 i * 16 바이트 위치에 있다. siftUp / siftDown 은 매핑된 영역을 직접 읽고 쓰기 때문에
+
+        객체로 역직렬화하는 과정이 없고, 프로세스가 재시작되어도 파일을 다시 열기만 하면 ( O(1) ) 그대로 사용할 수 있다.
+
+        힙이 사용하지 않는 0 번 레코드는 헤더로 사용한다. ( 매직 넘버 + 요소 개수 )
+
+        내용은 운영체제가 알아서 디스크에 기록하지만, 반드시 기록되어야 하는 시점에는 force 메소드를 호출한다.
+
+        하나의 MappedByteBuffer 는 2GB 까지만 매핑할 수 있으므로 최대 약 1 억 3 천만 개의 요소를 담을 수 있다.
+     */
+
+    private static final long MAGIC = 0x4D61707065644850L; // 파일 형식을 확인하기 위한 매직 넘버
+    private static final int RECORD_SIZE = 16; // 레코드 하나의 크기 ( long 키 + long payload )
+    private static final int DEFAULT_CAPACITY = 1024; // 기본 레코드 개수
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / RECORD_SIZE; // 매핑할 수 있는 최대 레코드 개수
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer; // 파일에 매핑된 배열
+
+    private int capacity; // 매핑된 레코드 개수 ( 헤더 포함 )
+    private int size; // 데이터 갯수
+
+    // 파일을 열고, 비어있는 파일이면 새로운 힙을 만드는 생성자
+    public MappedHeap(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    public MappedHeap(Path path, int capacity) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            long fileSize = channel.size();
+
+            if (fileSize == 0) {
+                map(Math.min(MAX_CAPACITY, Math.max(2, capacity)));
+                buffer.putLong(0, MAGIC);
+                writeSize(0);
+                return;
+            }
+
+            // 기존 파일은 헤더에 기록된 요소 개수만 읽어오면 된다.
+            if (fileSize % RECORD_SIZE != 0 || fileSize / RECORD_SIZE > MAX_CAPACITY) {
+                throw new IOException("MappedHeap 파일이 아닙니다 : " + path);
+            }
+
+            map((int) (fileSize / RECORD_SIZE));
+
+            if (buffer.getLong(0) != MAGIC) {
+                throw new IOException("MappedHeap 파일이 아닙니다 : " + path);
+            }
+
+            // 요소는 1 번부터 size 번 레코드에 있으므로 잘리거나 손상된 파일은 여기서 알린다.
+            long storedSize = buffer.getLong(8);
+
+            if (storedSize < 0 || storedSize >= capacity) {
+                throw new IOException("MappedHeap 파일이 손상되었습니다 ( size : " + storedSize + " ) : " + path);
+            }
+
+            this.size = (int) storedSize;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // 파일의 앞부분 newCapacity 개의 레코드를 매핑하는 메소드 ( 파일이 더 작으면 늘어난다. )
+    private void map(int newCapacity) throws IOException {
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) newCapacity * RECORD_SIZE);
+        this.capacity = newCapacity;
+    }
+
+    // 동적 할당을 위한 resize 메소드, 파일을 늘리고 다시 매핑하기 때문에 기존 레코드는 복사되지 않는다.
+    private void resize(int newCapacity) {
+        try {
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSize(int size) {
+        this.size = size;
+        buffer.putLong(8, size);
+    }
+
+    private long getKey(int index) {
+        return buffer.getLong(index * RECORD_SIZE);
+    }
+
+    private long getPayload(int index) {
+        return buffer.getLong(index * RECORD_SIZE + 8);
+    }
+
+    private void set(int index, long key, long payload) {
+        int offset = index * RECORD_SIZE;
+
+        buffer.putLong(offset, key);
+        buffer.putLong(offset + 8, payload);
+    }
+
+    // 트리의 마지막 노드에 데이터를 추가하고 힙 규칙에 따라 재배치 ( siftUp )
+    public void add(long key, long payload) {
+
+        if (size + 1 == capacity) {
+            if (capacity == MAX_CAPACITY) throw new IllegalStateException("더 이상 요소를 추가할 수 없습니다.");
+
+            resize((int) Math.min(MAX_CAPACITY, (long) capacity * 2));
+        }
+
+        siftUp(size + 1, key, payload);
+        writeSize(size + 1);
+    }
+
+    // LongHeap 의 siftUp 과 같으며 부모 레코드를 매핑된 영역에서 직접 옮긴다.
+    private void siftUp(int idx, long key, long payload) {
+
+        while (idx > 1) {
+            int parent = idx >>> 1;
+            long parentKey = getKey(parent);
+
+            if (key >= parentKey) {
+                break;
+            }
+
+            set(idx, parentKey, getPayload(parent));
+            idx = parent;
+        }
+
+        set(idx, key, payload);
+    }
+
+    // 루트의 키를 삭제하고 반환하는 remove 메소드, payload 가 필요하면 먼저 peekPayload 로 확인한다.
+    public long remove() {
+
+        if (size == 0) throw new NoSuchElementException();
+
+        long result = getKey(1);
+        long targetKey = getKey(size);
+        long targetPayload = getPayload(size);
+
+        writeSize(size - 1);
+
+        if (size > 0) siftDown(1, targetKey, targetPayload);
+
+        return result;
+    }
+
+    private void siftDown(int idx, long key, long payload) {
+
+        int parent = idx;
+        int child;
+
+        while ((child = parent << 1) <= size) {
+
+            int right = child + 1;
+            long childKey = getKey(child);
+
+            if (right <= size && childKey > getKey(right)) {
+                child = right;
+                childKey = getKey(child);
+            }
+
+            if (key <= childKey) {
+                break;
+            }
+
+            set(parent, childKey, getPayload(child));
+            parent = child;
+        }
+
+        set(parent, key, payload);
+    }
+
+    // 지금까지의 변경 내용을 디스크에 기록하는 force 메소드
+    public void force() {
+        buffer.force();
+    }
+
+    // 이하 설명 생략
+    public long peek() {
+        if (size == 0) throw new NoSuchElementException();
+
+        return getKey(1);
+    }
+
+    public long peekPayload() {
+        if (size == 0) throw new NoSuchElementException();
+
+        return getPayload(1);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        writeSize(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
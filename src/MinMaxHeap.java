@@ -0,0 +1,332 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class MinMaxHeap <E> {
+
+    /*
+        # 최소-최대 힙 ( Min-Max Heap )
+
+        최솟값과 최댓값을 모두 빠르게 찾고 삭제할 수 있는 힙이다. ( 양방향 우선순위 큐, Double-ended Priority Queue )
+
+        Heap 과 같이 1 번 인덱스부터 사용하는 완전이진트리 배열이며, 트리의 레벨에 따라 규칙이 번갈아 적용된다.
+
+        1. 짝수 레벨 ( 루트는 0 레벨 ) 의 노드는 자신의 모든 자손보다 작거나 같다. ( 최소 레벨 )
+        2. 홀수 레벨의 노드는 자신의 모든 자손보다 크거나 같다. ( 최대 레벨 )
+
+        따라서 최솟값은 루트에, 최댓값은 루트의 두 자식 중 큰 쪽에 있다.
+
+        시간 복잡도 : O(1) - 최솟값, 최댓값 / O(logN) - 삽입, 최솟값 삭제, 최댓값 삭제
+
+        재배치할 때는 부모 대신 조부모 ( 같은 종류의 레벨 ) 와 비교하면서 두 칸씩 이동한다.
+     */
+
+    private final Comparator<? super E> comparator;
+    private static final int DEFAULT_CAPACITY = 10; // 기본 크기
+
+    private int size; // 데이터 갯수
+
+    private Object[] array; // 힙을 구현하는 데 사용하는 배열
+
+    // 생성자
+    public MinMaxHeap() {
+        this(null);
+    }
+
+    public MinMaxHeap(Comparator<? super E> comparator) {
+        this(DEFAULT_CAPACITY, comparator);
+    }
+
+    public MinMaxHeap(int capacity) {
+        this(capacity, null);
+    }
+
+    public MinMaxHeap(int capacity, Comparator<? super E> comparator) {
+        this.array = new Object[Math.max(2, capacity)];
+        this.size = 0;
+        this.comparator = comparator;
+    }
+
+    // 인덱스가 최소 레벨에 있는지 확인하는 메소드 ( 레벨 = log2(index) )
+    private boolean isMinLevel(int index) {
+        return ((31 - Integer.numberOfLeadingZeros(index)) & 1) == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        if (comparator != null) return comparator.compare((E) a, (E) b);
+
+        return ((Comparable<? super E>) a).compareTo((E) b);
+    }
+
+    // 동적 할당을 위한 resize 메소드
+    private void resize(int newCapacity) {
+        this.array = Arrays.copyOf(array, newCapacity);
+    }
+
+    // 트리의 마지막 노드에 데이터를 추가하고 레벨 규칙에 따라 재배치
+    public void add(E value) {
+
+        if (size + 1 == array.length) resize(array.length * 2);
+
+        size++;
+        siftUp(size, value);
+    }
+
+    /*
+        새로운 노드를 부모와 먼저 비교한다.
+
+        최소 레벨에 추가했는데 부모 ( 최대 레벨 ) 보다 크다면 부모와 자리를 바꾸고 최대 레벨을 따라 올라간다.
+
+        최대 레벨에 추가했는데 부모 ( 최소 레벨 ) 보다 작다면 부모와 자리를 바꾸고 최소 레벨을 따라 올라간다.
+
+        그 외에는 자신의 레벨을 따라 조부모와 비교하면서 올라간다.
+     */
+    private void siftUp(int idx, E target) {
+
+        if (idx == 1) {
+            array[1] = target;
+            return;
+        }
+
+        int parent = idx / 2;
+
+        if (isMinLevel(idx)) {
+            if (compare(target, array[parent]) > 0) {
+                array[idx] = array[parent];
+                siftUpMax(parent, target);
+            } else {
+                siftUpMin(idx, target);
+            }
+        } else {
+            if (compare(target, array[parent]) < 0) {
+                array[idx] = array[parent];
+                siftUpMin(parent, target);
+            } else {
+                siftUpMax(idx, target);
+            }
+        }
+    }
+
+    private void siftUpMin(int idx, E target) {
+
+        // 조부모가 있는 동안 ( idx >= 4 ) 조부모보다 작으면 두 칸씩 올라간다.
+        while (idx > 3 && compare(target, array[idx / 4]) < 0) {
+            array[idx] = array[idx / 4];
+            idx /= 4;
+        }
+
+        array[idx] = target;
+    }
+
+    private void siftUpMax(int idx, E target) {
+
+        while (idx > 3 && compare(target, array[idx / 4]) > 0) {
+            array[idx] = array[idx / 4];
+            idx /= 4;
+        }
+
+        array[idx] = target;
+    }
+
+    // 최솟값을 삭제하는 removeMin 메소드
+    @SuppressWarnings("unchecked")
+    public E removeMin() {
+
+        if (size == 0) throw new NoSuchElementException();
+
+        E result = (E) array[1];
+        removeAt(1);
+
+        return result;
+    }
+
+    // 최댓값을 삭제하는 removeMax 메소드
+    @SuppressWarnings("unchecked")
+    public E removeMax() {
+
+        if (size == 0) throw new NoSuchElementException();
+
+        int idx = getMaxIndex();
+        E result = (E) array[idx];
+        removeAt(idx);
+
+        return result;
+    }
+
+    // 마지막 노드를 idx 위치로 옮긴 뒤 idx 의 레벨에 맞게 아래로 재배치
+    @SuppressWarnings("unchecked")
+    private void removeAt(int idx) {
+
+        E target = (E) array[size];
+        array[size] = null;
+        size--;
+
+        if (idx <= size) {
+            if (isMinLevel(idx)) {
+                trickleDownMin(idx, target);
+            } else {
+                trickleDownMax(idx, target);
+            }
+        }
+
+        if (array.length > DEFAULT_CAPACITY && size < array.length / 4) {
+            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
+        }
+    }
+
+    /*
+        최소 레벨에서 아래로 내려가며 재배치하는 메소드
+
+        자식과 손자 중 가장 작은 노드 m 을 찾아 target 보다 작으면 올려준다.
+
+        m 이 손자라면 target 은 m 의 자리로 내려가는데, m 의 부모 ( 최대 레벨 ) 보다 크다면 부모와 바꾼 뒤 계속 내려간다.
+
+        m 이 자식이라면 그 아래에는 더 내려갈 곳이 없으므로 끝낸다.
+     */
+    @SuppressWarnings("unchecked")
+    private void trickleDownMin(int idx, E target) {
+
+        while (true) {
+            int m = getDescendant(idx, true);
+
+            // 자손이 없거나 가장 작은 자손도 target 보다 작지 않으면 종료
+            if (m == 0 || compare(array[m], target) >= 0) break;
+
+            boolean grandchild = m >= idx * 4;
+
+            array[idx] = array[m];
+            idx = m;
+
+            if (!grandchild) break;
+
+            int parent = m / 2;
+
+            if (compare(target, array[parent]) > 0) {
+                E temp = (E) array[parent];
+                array[parent] = target;
+                target = temp;
+            }
+        }
+
+        array[idx] = target;
+    }
+
+    // 최대 레벨에서 아래로 내려가며 재배치하는 메소드 ( trickleDownMin 과 비교 방향만 반대 )
+    @SuppressWarnings("unchecked")
+    private void trickleDownMax(int idx, E target) {
+
+        while (true) {
+            int m = getDescendant(idx, false);
+
+            if (m == 0 || compare(array[m], target) <= 0) break;
+
+            boolean grandchild = m >= idx * 4;
+
+            array[idx] = array[m];
+            idx = m;
+
+            if (!grandchild) break;
+
+            int parent = m / 2;
+
+            if (compare(target, array[parent]) < 0) {
+                E temp = (E) array[parent];
+                array[parent] = target;
+                target = temp;
+            }
+        }
+
+        array[idx] = target;
+    }
+
+    // idx 의 자식과 손자 중 가장 작은 ( min 이 false 이면 가장 큰 ) 노드의 인덱스를 반환, 자식이 없으면 0
+    private int getDescendant(int idx, boolean min) {
+
+        int child = idx * 2;
+
+        if (child > size) return 0;
+
+        int best = child;
+
+        // 자식 두 개 ( idx * 2, idx * 2 + 1 ) 와 손자 네 개 ( idx * 4 ~ idx * 4 + 3 )
+        int last = Math.min(child + 1, size);
+        for (int i = child + 1; i <= last; i++) {
+            if (better(i, best, min)) best = i;
+        }
+
+        int grandchild = idx * 4;
+        last = Math.min(grandchild + 3, size);
+        for (int i = grandchild; i <= last; i++) {
+            if (better(i, best, min)) best = i;
+        }
+
+        return best;
+    }
+
+    private boolean better(int a, int b, boolean min) {
+        int result = compare(array[a], array[b]);
+        return min ? result < 0 : result > 0;
+    }
+
+    // 최댓값이 있는 인덱스를 반환하는 메소드 ( 루트 하나뿐이면 루트, 그렇지 않으면 두 자식 중 큰 쪽 )
+    private int getMaxIndex() {
+
+        if (size == 1) return 1;
+        if (size == 2) return 2;
+
+        return compare(array[2], array[3]) >= 0 ? 2 : 3;
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        return this.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peekMin() {
+        if (size == 0) throw new NoSuchElementException();
+
+        return (E) array[1];
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peekMax() {
+        if (size == 0) throw new NoSuchElementException();
+
+        return (E) array[getMaxIndex()];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 1; i <= size; i++) {
+            array[i] = null;
+        }
+
+        size = 0;
+    }
+
+    public Object[] toArray() {
+        return Arrays.copyOf(array, size + 1);
+    }
+
+    // 배열의 [1, size] 구간을 반으로 나누는 Spliterator ( Heap 의 spliterator 와 동일 )
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, 1, size + 1, 0);
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
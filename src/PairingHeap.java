@@ -0,0 +1,255 @@
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+public class PairingHeap <E> {
+
+    /*
+        # 페어링 힙 ( Pairing Heap )
+
+        Heap 은 배열로 구현되어 있기 때문에 두 힙을 합치려면 한 쪽의 요소를 모두 꺼내 다른 쪽에 추가해야 한다. ( O(NlogN) )
+
+        페어링 힙은 노드가 자식 리스트를 가지는 다중 트리 ( multiway tree ) 로 구현된 힙이다.
+
+        두 트리의 루트를 비교하여 큰 쪽을 작은 쪽의 첫 번째 자식으로 붙이는 link 연산 하나로 합칠 수 있다.
+
+        시간 복잡도 : O(1) - 최솟값, 삽입, 병합 ( meld ) / 분할 상환 O(logN) - 삭제 / 분할 상환 o(logN) - decreaseKey
+
+        각 노드는 첫 번째 자식 ( child ), 다음 형제 ( sibling ), 이전 노드 ( prev ) 를 가리킨다.
+
+        prev 는 첫 번째 자식이면 부모를, 그렇지 않으면 왼쪽 형제를 가리키며 decreaseKey 에서 노드를 잘라낼 때 사용한다.
+
+        삭제할 때는 루트의 자식들을 왼쪽부터 두 개씩 짝지어 합친 뒤 ( 1 단계 ), 오른쪽부터 하나로 합친다. ( 2 단계 )
+
+        decreaseKey 에 이미 삭제된 노드나 다른 힙의 노드가 들어오면 트리가 망가지므로, 노드마다 자신이 속한 힙의 Owner 를 기억한다.
+
+        meld 는 O(1) 이어야 하므로 옮겨지는 노드들을 하나씩 바꾸지 않고, 다른 힙의 Owner 가 이 힙의 Owner 를 가리키도록 ( forward ) 한다.
+
+        노드가 속한 힙은 forward 를 끝까지 따라가서 찾는다. ( 따라간 경로는 바로 마지막 Owner 를 가리키도록 줄인다. )
+     */
+
+    // 노드가 속한 힙을 나타내는 표식, meld 되면 합쳐진 힙의 Owner 를 가리킨다.
+    private static final class Owner {
+        Owner forward;
+    }
+
+    // 힙에 들어간 요소를 담는 노드, add 가 반환하며 decreaseKey 에 사용한다.
+    public static final class Node<E> {
+        private E value;
+        private Node<E> child; // 첫 번째 자식
+        private Node<E> sibling; // 다음 형제
+        private Node<E> prev; // 부모 ( 첫 번째 자식인 경우 ) 또는 이전 형제
+        private Owner owner; // 속한 힙의 Owner ( 삭제되면 null )
+
+        private Node(E value, Owner owner) {
+            this.value = value;
+            this.owner = owner;
+        }
+
+        public E value() {
+            return value;
+        }
+    }
+
+    private final Comparator<? super E> comparator;
+
+    private Node<E> root; // 최솟값을 가지는 루트 노드
+    private int size; // 데이터 갯수
+    private Owner owner = new Owner(); // 이 힙에 추가된 노드들이 가리키는 표식
+
+    // 생성자
+    public PairingHeap() {
+        this(null);
+    }
+
+    public PairingHeap(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.root = null;
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E a, E b) {
+        if (comparator != null) return comparator.compare(a, b);
+
+        return ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    // 두 트리를 합치는 link 메소드, 루트가 큰 트리를 작은 트리의 첫 번째 자식으로 붙인다.
+    private Node<E> link(Node<E> a, Node<E> b) {
+
+        if (a == null) return b;
+        if (b == null) return a;
+
+        if (compare(b.value, a.value) < 0) {
+            Node<E> temp = a;
+            a = b;
+            b = temp;
+        }
+
+        b.sibling = a.child;
+        if (a.child != null) a.child.prev = b;
+
+        b.prev = a;
+        a.child = b;
+
+        return a;
+    }
+
+    // 새로운 노드를 루트와 link 하는 add 메소드 ( O(1) )
+    public Node<E> add(E value) {
+
+        Node<E> node = new Node<>(value, owner);
+
+        root = link(root, node);
+        size++;
+
+        return node;
+    }
+
+    // 다른 페어링 힙의 모든 요소를 가져오는 meld 메소드 ( O(1) ), other 는 빈 힙이 된다.
+    public void meld(PairingHeap<E> other) {
+
+        if (other == this || other.root == null) return;
+
+        root = link(root, other.root);
+        size += other.size;
+
+        other.root = null;
+        other.size = 0;
+
+        // other 의 노드들은 이제 이 힙에 속하고, other 에는 새로운 Owner 를 준다.
+        other.owner.forward = owner;
+        other.owner = new Owner();
+    }
+
+    // 루트를 삭제하고 자식들을 두 단계에 걸쳐 하나의 트리로 합치는 remove 메소드
+    public E remove() {
+
+        if (root == null) throw new NoSuchElementException();
+
+        Node<E> removed = root;
+
+        root = mergePairs(removed.child);
+        size--;
+
+        removed.child = null;
+        removed.owner = null;
+
+        return removed.value;
+    }
+
+    private Node<E> mergePairs(Node<E> first) {
+
+        if (first == null) return null;
+
+        // 1 단계 : 왼쪽부터 두 개씩 짝지어 link 하고, 결과를 sibling 으로 거꾸로 쌓아둔다.
+        Node<E> paired = null;
+
+        while (first != null) {
+            Node<E> a = first;
+            Node<E> b = a.sibling;
+
+            if (b == null) {
+                a.prev = null;
+                a.sibling = paired;
+                paired = a;
+                break;
+            }
+
+            first = b.sibling;
+
+            a.sibling = a.prev = null;
+            b.sibling = b.prev = null;
+
+            Node<E> merged = link(a, b);
+            merged.sibling = paired;
+            paired = merged;
+        }
+
+        // 2 단계 : 쌓아둔 트리들을 오른쪽 ( 마지막으로 짝지은 것 ) 부터 하나로 link 한다.
+        Node<E> result = paired;
+        paired = paired.sibling;
+        result.sibling = null;
+
+        while (paired != null) {
+            Node<E> next = paired.sibling;
+            paired.sibling = null;
+
+            result = link(result, paired);
+            paired = next;
+        }
+
+        result.prev = null;
+        return result;
+    }
+
+    /*
+        노드의 값을 더 작은 값으로 바꾸는 decreaseKey 메소드
+
+        노드를 부모에서 잘라낸 뒤 ( 자식들은 그대로 붙어있다. ) 루트와 다시 link 한다.
+     */
+    public void decreaseKey(Node<E> node, E value) {
+
+        if (!contains(node)) throw new IllegalArgumentException("이 힙에 들어있는 노드가 아닙니다.");
+
+        if (compare(value, node.value) > 0) throw new IllegalArgumentException("기존 값보다 큰 값입니다.");
+
+        node.value = value;
+
+        if (node == root) return;
+
+        // 첫 번째 자식이면 부모의 child 를, 그렇지 않으면 이전 형제의 sibling 을 다음 형제로 바꿔준다.
+        if (node.prev.child == node) {
+            node.prev.child = node.sibling;
+        } else {
+            node.prev.sibling = node.sibling;
+        }
+
+        if (node.sibling != null) node.sibling.prev = node.prev;
+
+        node.prev = null;
+        node.sibling = null;
+
+        root = link(root, node);
+    }
+
+    // node 가 삭제되지 않았고 이 힙 ( 또는 이 힙에 meld 된 힙 ) 에 추가된 노드인지 확인하는 메소드
+    public boolean contains(Node<E> node) {
+
+        if (node == null || node.owner == null) return false;
+
+        Owner last = node.owner;
+
+        while (last.forward != null) last = last.forward;
+
+        // 따라간 경로의 Owner 들이 마지막 Owner 를 바로 가리키도록 줄인다.
+        for (Owner o = node.owner; o != last; ) {
+            Owner next = o.forward;
+            o.forward = last;
+            o = next;
+        }
+
+        return last == owner;
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        return this.size;
+    }
+
+    public E peek() {
+        if (root == null) throw new NoSuchElementException();
+
+        return root.value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+        owner = new Owner(); // 남아있던 노드들은 더 이상 이 힙의 노드가 아니다.
+    }
+}
@@ -1,6 +1,12 @@
 package list;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 
 /*
@@ -23,6 +29,7 @@ public class ArrayList <E> implements List <E>{
     private static final Object[] EMPTY_ARRAY = {}; // 빈 배열
 
     private int size; // 요소 개수
+    private int modCount; // 구조가 바뀐 횟수 ( 반복자가 다른 곳에서의 변경을 감지하는 데 사용 )
 
     Object[] array; // 요소를 담을 배열
 
@@ -74,6 +81,7 @@ public class ArrayList <E> implements List <E>{
         }
         array[size] = value;
         size++;
+        modCount++;
     }
 
     // 자바에서 구현하고 있는 add 메소드는 배열의 마지막에 값을 할당하는 것이므로 addLast를 구현
@@ -105,6 +113,7 @@ public class ArrayList <E> implements List <E>{
 
             array[index] = value;
             size++;
+            modCount++;
         }
     }
 
@@ -171,13 +180,12 @@ public class ArrayList <E> implements List <E>{
         E element = (E) array[index]; // 삭제될 요소를 반환하기 위해 임시로 담아둠
         array[index] = null;
 
-        // 삭제한 요소의 뒤에 있는 모든 요소들을 한 칸씩 앞으로 이동
-        for (int i = index; i < size; i++) {
-            array[i] = array[i + 1];
-            array[i + 1] = null;
-        }
+        // 삭제한 요소의 뒤에 있는 모든 요소들을 한 칸씩 앞으로 이동 ( 배열이 가득 차 있어도 범위를 넘지 않도록 size - 1 까지 )
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[size - 1] = null;
 
         size--;
+        modCount++;
         resize();
         return element;
     }
@@ -219,6 +227,127 @@ public class ArrayList <E> implements List <E>{
         }
 
         size = 0;
+        modCount++;
         resize();
     }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ListItr(0);
+    }
+
+    // 배열의 [0, size) 구간을 반으로 나누는 Spliterator ( SIZED | SUBSIZED ) 로 병렬 스트림에서 복사 없이 나누어 처리한다.
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
+
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    public ListIterator<E> listIterator(int index) {
+
+        if (index > size || index < 0) throw new IndexOutOfBoundsException();
+
+        return new ListItr(index);
+    }
+
+    /*
+        # 배열의 위치를 커서로 사용하는 ListIterator
+
+        next / previous / set 은 O(1) 이지만, add / remove 는 배열의 요소를 옮겨야 하므로 ArrayList 의 add / remove 와 같이 O(n) 이다.
+
+        반복자 밖에서 리스트의 구조가 바뀌면 modCount 가 달라지므로 ConcurrentModificationException 을 발생시킨다. ( fail-fast )
+     */
+    private class ListItr implements ListIterator<E> {
+
+        private int cursor; // 다음에 반환할 요소의 위치
+        private int lastReturned = -1; // 마지막으로 반환한 요소의 위치 ( 없으면 -1 )
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            this.cursor = index;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (cursor >= size) throw new NoSuchElementException();
+
+            lastReturned = cursor++;
+
+            return (E) array[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (cursor <= 0) throw new NoSuchElementException();
+
+            lastReturned = --cursor;
+
+            return (E) array[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+
+            if (lastReturned < 0) throw new IllegalStateException();
+
+            ArrayList.this.remove(lastReturned);
+
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E value) {
+            checkForComodification();
+
+            if (lastReturned < 0) throw new IllegalStateException();
+
+            array[lastReturned] = value;
+        }
+
+        @Override
+        public void add(E value) {
+            checkForComodification();
+
+            ArrayList.this.add(cursor++, value);
+
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
 }
@@ -0,0 +1,203 @@
+package list;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+
+/*
+    # DoubleArrayList
+
+    ArrayList 와 같은 구조이지만 요소를 Object[] 대신 double[] 에 담는 리스트
+
+    ArrayList<Double> 는 요소마다 Double 객체 ( 16 바이트 ) 와 참조 ( 4 ~ 8 바이트 ) 를 사용하지만 double[] 는 요소마다 8 바이트만 사용한다.
+
+    indexOf 는 equals 호출 없이 비트 값을 비교하기 때문에 JIT 이 반복문을 단순하게 만들 수 있다. ( Double.equals 와 같이 NaN 도 찾을 수 있고 0.0 과 -0.0 은 구분한다. )
+
+    용적을 늘리고 줄이는 규칙은 ArrayList 의 resize 와 같다.
+
+ */
+public class DoubleArrayList implements DoubleList {
+
+    private static final int DEFAULT_CAPACITY = 10; // 기본 용적 크기
+    private static final double[] EMPTY_ARRAY = {}; // 빈 배열
+
+    private int size; // 요소 개수
+
+    double[] array; // 요소를 담을 배열
+
+    // 생성자 1 ( 초기 공간 할당 x )
+    public DoubleArrayList() {
+        this.array = EMPTY_ARRAY;
+        this.size = 0;
+    }
+
+    // 생성자 2 ( 초기 공간 할당 o )
+    public DoubleArrayList(int capacity) {
+        this.array = new double[capacity];
+        this.size = 0;
+    }
+
+    // 동적 할당을 위한 resize 메소드 ( ArrayList 와 동일 )
+    private void resize() {
+        int array_capacity = array.length;
+
+        // 배열의 용량이 0 일 경우
+        if (array_capacity == 0) {
+            array = new double[DEFAULT_CAPACITY];
+            return;
+        }
+
+        // 용량이 꽉 찰 경우
+        if (size == array_capacity) {
+            array = Arrays.copyOf(array, array_capacity * 2);
+            return;
+        }
+
+        // 용적의 절반 미만으로 요소가 차지하고 있을 경우
+        if (size < (array_capacity / 2)) {
+            array = Arrays.copyOf(array, array_capacity / 2);
+        }
+    }
+
+    @Override
+    public void addDouble(double value) {
+
+        if (size == array.length) {
+            resize();
+        }
+
+        array[size] = value;
+        size++;
+    }
+
+    @Override
+    public void addDouble(int index, double value) {
+
+        if (index > size || index < 0) { // 범위를 벗어날 경우 예외 발생
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (size == array.length) {
+            resize();
+        }
+
+        // index 기준 뒤에 있는 모든 요소들을 한 번에 한 칸씩 뒤로 이동
+        System.arraycopy(array, index, array, index + 1, size - index);
+
+        array[index] = value;
+        size++;
+    }
+
+    // 용적을 한 번만 늘리고 배열을 통째로 복사하는 addAll 메소드
+    @Override
+    public void addAll(double[] values) {
+
+        if (size + values.length > array.length) {
+            array = Arrays.copyOf(array, Math.max(Math.max(array.length * 2, DEFAULT_CAPACITY), size + values.length));
+        }
+
+        System.arraycopy(values, 0, array, size, values.length);
+        size += values.length;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        if (index >= size || index < 0) { // 범위 벗어나면 예외 발생
+            throw new IndexOutOfBoundsException();
+        }
+
+        return array[index];
+    }
+
+    @Override
+    public void setDouble(int index, double value) {
+        if (index >= size || index < 0) { // 범위 벗어나면 예외 발생
+            throw new IndexOutOfBoundsException();
+        }
+
+        array[index] = value;
+    }
+
+    @Override
+    public int indexOfDouble(double value) {
+
+        long bits = Double.doubleToLongBits(value);
+
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean containsDouble(double value) {
+        return indexOfDouble(value) >= 0;
+    }
+
+    @Override
+    public double removeAt(int index) {
+
+        if (index >= size || index < 0) { // 범위 벗어나면 예외 발생
+            throw new IndexOutOfBoundsException();
+        }
+
+        double element = array[index];
+
+        // 삭제한 요소의 뒤에 있는 모든 요소들을 한 번에 한 칸씩 앞으로 이동
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+
+        size--;
+        resize();
+        return element;
+    }
+
+    @Override
+    public boolean removeDouble(double value) {
+
+        int index = indexOfDouble(value);
+
+        if (index == -1) return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    // 내부 배열의 0 ~ size 구간을 복사 없이 감싸서 반환
+    @Override
+    public DoubleBuffer asBuffer() {
+        return DoubleBuffer.wrap(array, 0, size).slice();
+    }
+
+    // 내부 배열의 0 ~ size 구간을 반으로 나누는 Spliterator ( SIZED | SUBSIZED )
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
+
+    // 이하 설명 생략
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        resize();
+    }
+}
@@ -1,6 +1,15 @@
 package list;
 
-public class DoublyLinkedList {
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class DoublyLinkedList implements Iterable<Object> {
 
     // 이중 연결 리스트에서 쓰이는 노드 객체 ( ArrayList 의 노드에서 이전 노드를 가리키는 포인터 추가 )
     private class Node{
@@ -19,6 +28,7 @@ public class DoublyLinkedList {
     private Node head;
     private Node tail;
     private int size = 0;
+    private int modCount = 0; // 구조가 바뀐 횟수 ( 반복자가 다른 곳에서의 변경을 감지하는 데 사용 )
 
     public Node search(int index) {
 
@@ -62,6 +72,7 @@ public class DoublyLinkedList {
         }
 
         size++; // 리스트의 크기를 늘려준다.
+        modCount++;
     }
 
     public void addLast(Object input) {
@@ -75,6 +86,7 @@ public class DoublyLinkedList {
             newNode.prev = tail; // 새로운 노드의 prev 포인터는 기존 리스트의 tail 을 지칭
             tail = newNode; // 리스트의 tail 을 새로운 노드로 교체
             size++;
+            modCount++;
         }
     }
 
@@ -103,6 +115,7 @@ public class DoublyLinkedList {
             newNode.prev = prevNode;
 
             size++;
+            modCount++;
         }
     }
 
@@ -119,10 +132,13 @@ public class DoublyLinkedList {
         // 임시 변수를 null 로 삭제
         temp = null;
 
-        // 삭제했을 때, 빈 리스트가 아닐 경우 head 의 prev 포인터를 null 로 초기화
+        // 삭제했을 때, 빈 리스트가 아닐 경우 head 의 prev 포인터를 null 로 초기화하고 빈 리스트가 되면 tail 도 비워준다.
         if (head != null)
             head.prev = null;
+        else
+            tail = null;
         size--;
+        modCount++;
 
         return removed;
     }
@@ -148,6 +164,7 @@ public class DoublyLinkedList {
 
         deleteNode = null;
         size--;
+        modCount++;
 
         return removed;
 
@@ -200,9 +217,181 @@ public class DoublyLinkedList {
         }
         head = tail = null;
         size = 0;
+        modCount++;
     }
 
     public int size() {
         return size;
     }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new ListItr(0);
+    }
+
+    // 노드를 따라가는 반복자에서 요소를 묶음 ( batch ) 단위로 꺼내어 나누는 Spliterator
+    @Override
+    public Spliterator<Object> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    public Stream<Object> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<Object> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    public ListIterator<Object> listIterator() {
+        return new ListItr(0);
+    }
+
+    // index 위치부터 시작하는 반복자를 반환 ( 시작 위치를 찾을 때만 search 를 사용한다. )
+    public ListIterator<Object> listIterator(int index) {
+
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        return new ListItr(index);
+    }
+
+    /*
+        # 노드를 따라가는 ListIterator
+
+        for 문에서 get(i) 를 호출하면 매번 search 하므로 전체를 도는 데 O(n²) 이 걸린다.
+
+        반복자는 커서 바로 뒤의 노드 ( next ) 를 기억하고, 이중 연결 리스트는 prev 포인터가 있으므로
+
+        next / previous / add / remove / set 이 모두 O(1) 이다.
+
+        반복자 밖에서 리스트의 구조가 바뀌면 modCount 가 달라지므로 ConcurrentModificationException 을 발생시킨다. ( fail-fast )
+     */
+    private class ListItr implements ListIterator<Object> {
+
+        private Node next; // 커서 바로 뒤의 노드 ( 마지막이면 null )
+        private int nextIndex;
+        private Node lastReturned; // next / previous 가 마지막으로 반환한 노드
+
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            this.next = index == size ? null : search(index);
+            this.nextIndex = index;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public Object next() {
+            checkForComodification();
+
+            if (!hasNext()) throw new NoSuchElementException();
+
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public Object previous() {
+            checkForComodification();
+
+            if (!hasPrevious()) throw new NoSuchElementException();
+
+            // 커서가 마지막에 있으면 tail 이 바로 앞의 노드이다.
+            next = next == null ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        // 마지막으로 반환한 노드의 앞뒤 노드를 직접 이어서 삭제한다.
+        @Override
+        public void remove() {
+            checkForComodification();
+
+            if (lastReturned == null) throw new IllegalStateException();
+
+            Node before = lastReturned.prev;
+            Node after = lastReturned.next;
+
+            if (before == null) head = after;
+            else before.next = after;
+
+            if (after == null) tail = before;
+            else after.prev = before;
+
+            if (next == lastReturned) { // previous 로 반환한 노드를 삭제한 경우
+                next = after;
+            } else { // next 로 반환한 노드를 삭제한 경우 커서가 한 칸 앞으로 온다.
+                nextIndex--;
+            }
+
+            lastReturned.data = null;
+            lastReturned.next = null;
+            lastReturned.prev = null;
+            lastReturned = null;
+
+            size--;
+            expectedModCount = ++modCount;
+        }
+
+        @Override
+        public void set(Object value) {
+            checkForComodification();
+
+            if (lastReturned == null) throw new IllegalStateException();
+
+            lastReturned.data = value;
+        }
+
+        // 커서 위치 ( next 의 앞 ) 에 새로운 노드를 연결한다.
+        @Override
+        public void add(Object value) {
+            checkForComodification();
+
+            Node newNode = new Node(value);
+            Node before = next == null ? tail : next.prev;
+
+            newNode.prev = before;
+            newNode.next = next;
+
+            if (before == null) head = newNode;
+            else before.next = newNode;
+
+            if (next == null) tail = newNode;
+            else next.prev = newNode;
+
+            nextIndex++;
+            lastReturned = null;
+
+            size++;
+            expectedModCount = ++modCount;
+        }
+    }
 }
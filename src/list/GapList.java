@@ -0,0 +1,183 @@
+package list;
+
+import java.util.Arrays;
+
+
+/*
+    # GapList ( Gap Buffer )
+
+    ArrayList 와 같이 하나의 배열에 요소를 담지만, 배열 중간에 비어있는 구간 ( gap ) 을 둔다.
+
+    [ 0 ~ gapStart ) 에는 앞쪽 요소들이, [ gapEnd ~ array.length ) 에는 뒤쪽 요소들이 있다.
+
+    - add(index) / remove(index) 는 먼저 gap 을 index 위치로 옮긴 뒤 gap 의 가장자리에서 추가하거나 삭제한다.
+    - gap 을 옮길 때는 gap 과 index 사이의 요소만 System.arraycopy 로 한 번에 옮긴다.
+
+    편집기처럼 커서 근처에서 추가 / 삭제가 반복되면 gap 이 거의 움직이지 않으므로 O(1) ( 분할 상환 ) 이고,
+
+    ArrayList 처럼 매번 뒤쪽의 모든 요소를 한 칸씩 옮기지 않는다. 위치를 자주 바꾸는 편집에는 TieredVector 가 더 알맞다.
+
+ */
+public class GapList<E> implements List<E> {
+
+    private static final int DEFAULT_CAPACITY = 10; // 기본 용적 크기
+
+    private Object[] array; // 요소를 담을 배열
+    private int gapStart; // gap 의 시작 ( 앞쪽 요소의 개수 )
+    private int gapEnd; // gap 의 끝 ( 뒤쪽 요소의 시작 위치 )
+
+    public GapList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GapList(int capacity) {
+        this.array = new Object[Math.max(1, capacity)];
+        this.gapStart = 0;
+        this.gapEnd = array.length;
+    }
+
+    // 요소의 위치를 배열의 위치로 바꾸는 메소드
+    private int physical(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    // gap 이 index 위치에서 시작하도록 사이에 있는 요소들을 한 번에 옮기는 메소드
+    private void moveGap(int index) {
+
+        if (index < gapStart) {
+            // gap 보다 앞에 있는 [index, gapStart) 를 gap 의 뒤쪽 끝으로 옮긴다.
+            int count = gapStart - index;
+
+            System.arraycopy(array, index, array, gapEnd - count, count);
+            Arrays.fill(array, index, Math.min(gapStart, gapEnd - count), null);
+
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // gap 보다 뒤에 있는 요소 중 앞쪽 count 개를 gap 의 앞쪽으로 옮긴다.
+            int count = index - gapStart;
+
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            Arrays.fill(array, Math.max(gapEnd, index), gapEnd + count, null);
+
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    // 용적을 newCapacity 로 바꾸는 resize 메소드, gap 은 현재 위치 그대로 두고 크기만 바꾼다.
+    private void resize(int newCapacity) {
+        Object[] newArray = new Object[newCapacity];
+        int tail = array.length - gapEnd;
+
+        System.arraycopy(array, 0, newArray, 0, gapStart);
+        System.arraycopy(array, gapEnd, newArray, newCapacity - tail, tail);
+
+        array = newArray;
+        gapEnd = newCapacity - tail;
+    }
+
+    @Override
+    public boolean add(E value) {
+        add(size(), value);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E value) {
+
+        if (index > size() || index < 0) throw new IndexOutOfBoundsException();
+
+        // gap 이 없다면 용적을 두 배로 늘린다.
+        if (gapStart == gapEnd) resize(array.length * 2);
+
+        moveGap(index);
+
+        array[gapStart++] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+
+        if (index >= size() || index < 0) throw new IndexOutOfBoundsException();
+
+        moveGap(index);
+
+        E element = (E) array[gapEnd];
+        array[gapEnd++] = null;
+
+        // 요소의 개수가 용적의 1/4 미만이면 용적을 반으로 줄인다. ( 최소 용적보다는 커야 함 )
+        if (array.length > DEFAULT_CAPACITY && size() < array.length / 4) {
+            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
+        }
+
+        return element;
+    }
+
+    @Override
+    public boolean remove(Object value) {
+
+        int index = indexOf(value);
+
+        if (index == -1) return false;
+
+        remove(index);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+
+        if (index >= size() || index < 0) throw new IndexOutOfBoundsException();
+
+        return (E) array[physical(index)];
+    }
+
+    @Override
+    public void set(int index, E value) {
+
+        if (index >= size() || index < 0) throw new IndexOutOfBoundsException();
+
+        array[physical(index)] = value;
+    }
+
+    // gap 을 건너뛰어 앞쪽 구간과 뒤쪽 구간을 차례대로 찾는 indexOf 메소드
+    @Override
+    public int indexOf(Object value) {
+
+        for (int i = 0; i < gapStart; i++) {
+            if (value.equals(array[i])) return i;
+        }
+
+        for (int i = gapEnd; i < array.length; i++) {
+            if (value.equals(array[i])) return i - (gapEnd - gapStart);
+        }
+
+        return -1;
+    }
+
+    // 이하 설명 생략
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return array.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        array = new Object[DEFAULT_CAPACITY];
+        gapStart = 0;
+        gapEnd = array.length;
+    }
+}
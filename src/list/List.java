@@ -1,5 +1,13 @@
 package list;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
 
   자바 List Interface입니다. <br>
@@ -12,7 +20,7 @@ package list;
 
  */
 
-public interface List <E> {
+public interface List <E> extends Iterable <E> {
 
     /**
      * 리스트에 요소를 추가합니다.
@@ -102,4 +110,64 @@ public interface List <E> {
      */
     public void clear();
 
+    /**
+     * 리스트의 요소를 처음부터 차례대로 반환하는 반복자를 반환합니다.
+     * 기본 구현은 {@link #get(int)} 을 사용하므로 get 이 O(1) 인 리스트에 알맞고,
+     * 연결 리스트처럼 get 이 O(n) 인 리스트는 노드를 따라가는 반복자로 재정의합니다.
+     * 반복하는 도중에 리스트의 크기가 바뀌면 {@code ConcurrentModificationException} 을 발생시킵니다.
+     *
+     * @return 리스트의 요소를 차례대로 반환하는 반복자
+     */
+    @Override
+    default Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final int expectedSize = size();
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < expectedSize;
+            }
+
+            @Override
+            public E next() {
+                if (size() != expectedSize) throw new ConcurrentModificationException();
+                if (cursor >= expectedSize) throw new NoSuchElementException();
+
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * 리스트의 요소를 나누어 반복할 수 있는 {@code Spliterator} 를 반환합니다.
+     * 기본 구현은 {@link #iterator()} 에서 요소를 묶음 ( batch ) 단위로 배열에 꺼내어 나누므로
+     * 연결 리스트처럼 위치로 바로 접근할 수 없는 리스트도 병렬 스트림에서 나누어 처리할 수 있습니다.
+     * 배열 기반의 리스트는 위치 구간을 반으로 나누는 Spliterator 로 재정의합니다.
+     *
+     * @return 리스트의 요소를 차례대로 반환하는 Spliterator
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * 리스트의 요소를 차례대로 흘려보내는 순차 스트림을 반환합니다.
+     *
+     * @return 리스트의 요소에 대한 순차 스트림
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * 리스트의 요소를 나누어 처리하는 병렬 스트림을 반환합니다.
+     *
+     * @return 리스트의 요소에 대한 병렬 스트림
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 }
@@ -0,0 +1,149 @@
+package list;
+
+import java.nio.LongBuffer;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+
+  long 값을 박싱하지 않고 담는 List Interface입니다. <br>
+  List 와 같은 동작을 하지만 요소를 Long 객체 대신 long 로 주고받습니다.
+
+  @version 1.0
+
+ */
+
+public interface LongList {
+
+    /**
+     * 리스트의 마지막에 요소를 추가합니다.
+     *
+     * @param value 리스트에 추가할 요소
+     */
+    void addLong(long value);
+
+    /**
+     * 리스트의 특정 위치에 요소를 추가합니다.
+     * 특정 위치 및 이후의 요소들은 한 칸씩 뒤로 밀립니다.
+     *
+     * @param index 리스트에 요소를 추가할 특정 위치 변수
+     * @param value 리스트에 추가할 요소
+     */
+    void addLong(int index, long value);
+
+    /**
+     * 배열의 모든 요소를 순서대로 리스트의 마지막에 추가합니다.
+     *
+     * @param values 리스트에 추가할 요소들
+     */
+    void addAll(long[] values);
+
+    /**
+     * 리스트의 index 위치에 있는 요소를 삭제합니다.
+     *
+     * @param index 리스트에서 삭제 할 위치 변수
+     * @return 삭제된 요소를 반환
+     */
+    long removeAt(int index);
+
+    /**
+     * 리스트에서 특정 요소를 삭제합니다. 동일한 요소가
+     * 여러 개일 경우 가장 처음 발견한 요소만 삭제됩니다.
+     *
+     * @param value 리스트에서 삭제할 요소
+     * @return 삭제할 요소가 없을 경우 {@code false}, 삭제에 성공할 경우 {@code true}를 반환
+     */
+    boolean removeLong(long value);
+
+    /**
+     * 리스트에 있는 특정 위치의 요소를 반환합니다.
+     *
+     * @param index 리스트에 접근할 위치 변수
+     * @return 리스트의 index 위치에 있는 요소 반환
+     */
+    long getLong(int index);
+
+    /**
+     * 리스트에서 특정 위치에 있는 요소를 새 요소로 대체합니다.
+     *
+     * @param index 리스트에 접근할 위치 변수
+     * @param value 새로 대체할 요소 변수
+     */
+    void setLong(int index, long value);
+
+    /**
+     * 리스트에 특정 요소가 있는지 여부를 확인합니다.
+     *
+     * @param value 리스트에서 찾을 특정 요소 변수
+     * @return 존재할 경우 {@code true}, 존재하지 않을 경우 {@code false}를 반환
+     */
+    boolean containsLong(long value);
+
+    /**
+     * 리스트에 특정 요소가 몇 번째 위치에 있는지를 반환합니다.
+     *
+     * @param value 리스트에서 위치를 찾을 요소 변수
+     * @return 처음으로 일치하는 위치, 일치하는 요소가 없을경우 -1 을 반환
+     */
+    int indexOfLong(long value);
+
+    /**
+     * 리스트의 요소들을 새로운 배열에 복사하여 반환합니다.
+     *
+     * @return 요소 개수 크기의 배열
+     */
+    long[] toArray();
+
+    /**
+     * 리스트의 요소들을 복사하지 않고 내부 배열을 그대로 가리키는 LongBuffer 로 반환합니다.
+     * 리스트의 크기가 바뀌면 더 이상 리스트와 같은 내용을 보장하지 않습니다.
+     *
+     * @return 0 부터 size 까지의 요소를 가리키는 LongBuffer
+     */
+    LongBuffer asBuffer();
+
+    /**
+     * 리스트의 요소들을 박싱 없이 나누어 반복할 수 있는 {@code Spliterator.OfLong} 를 반환합니다.
+     *
+     * @return 0 부터 size 까지의 요소를 차례대로 반환하는 Spliterator
+     */
+    Spliterator.OfLong spliterator();
+
+    /**
+     * 리스트의 요소를 차례대로 흘려보내는 순차 LongStream 을 반환합니다.
+     *
+     * @return 리스트의 요소에 대한 순차 스트림
+     */
+    default LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * 리스트의 요소를 나누어 처리하는 병렬 LongStream 을 반환합니다.
+     *
+     * @return 리스트의 요소에 대한 병렬 스트림
+     */
+    default LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * 리스트에 있는 요소의 개수를 반환합니다.
+     *
+     * @return 리스트에 있는 요소 개수를 반환
+     */
+    int size();
+
+    /**
+     * 리스트에 요소가 비어있는지를 반환합니다.
+     * @return 리스트에 요소가 없을경우 {@code true}, 요소가 있을경우 {@code false}를 반환
+     */
+    boolean isEmpty();
+
+    /**
+     * 리스트에 있는 요소를 모두 삭제합니다.
+     */
+    void clear();
+
+}
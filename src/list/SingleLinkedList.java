@@ -1,5 +1,8 @@
 package list;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 /*
@@ -36,6 +39,7 @@ public class SingleLinkedList<E> implements List<E> {
     private Node<E> head; // 리스트의 첫 노드
     private Node<E> tail; // 리스트의 마지막 노드드
     private int size; // 리스트의 크기
+    private int modCount; // 구조가 바뀐 횟수 ( 반복자가 다른 곳에서의 변경을 감지하는 데 사용 )
 
     public SingleLinkedList() { // 생성자
         this.head = null;
@@ -73,6 +77,7 @@ public class SingleLinkedList<E> implements List<E> {
         newNode.next = head; // 새로운 노드의 next 포인터를 기존 리스트의 첫 노드와 연결
         head = newNode; // 리스트의 처음을 가리키는 head 가 새로운 노드를 가리키도록 변경
         size++; // 새로운 노드가 추가되었으니 리스트의 크기를 증가
+        modCount++;
 
         // 빈 리스트였을 경우 새로운 노드가 처음이자 마지막이기 때문에 tail 포인터도 새로운 노드를 가리키도록 함.
         if (head.next == null) {
@@ -96,6 +101,7 @@ public class SingleLinkedList<E> implements List<E> {
         tail.next = newNode; // 리스트의 마지막을 가리키는 tail 노드의 next 포인트가 새로운 노드를 가리키도록 함.
         tail = newNode; // tail 노드를 새로운 노드로 교체
         size++; // 사이즈 증가
+        modCount++;
 
     }
 
@@ -134,6 +140,7 @@ public class SingleLinkedList<E> implements List<E> {
         prevNode.next = newNode; // 추가하려는 위치 이전 노드의 next 포인터가 새로운 노드를 가리키도록 연결
         newNode.next = nextNode; // 새로운 노드의 next 포인터가 추가하려는 위치에 있는 기존 노드와 연결
         size++; // 크기 증가
+        modCount++;
 
     }
 
@@ -160,6 +167,7 @@ public class SingleLinkedList<E> implements List<E> {
         // 리스트의 첫 노드를 담아두었던 nextNode로 교체 후, 크기를 줄여준다.
         head = nextNode;
         size--;
+        modCount++;
 
         // 리스트에 하나만 있었을 때는 head 와 tail 이 같은 곳을 가리키고 있기 때문에 tail 도 null 로 바꿔준다.
         if (size == 0) tail = null;
@@ -184,10 +192,14 @@ public class SingleLinkedList<E> implements List<E> {
 
         prevNode.next = nextNode; // 이전 노드의 next 포인터를 삭제할 노드에서 다음 노드로 바꿔준다.
 
+        // 마지막 노드를 삭제한 경우 tail 을 이전 노드로 바꿔준다.
+        if (removeNode == tail) tail = prevNode;
+
         // 데이터 삭제
         removeNode.next = null;
         removeNode.data = null;
         size--;
+        modCount++;
 
         return removed;
     }
@@ -219,10 +231,13 @@ public class SingleLinkedList<E> implements List<E> {
             // 첫번째에 위치하지 않은 경우
             prevNode.next = removeNode.next; // 이전 노드의 next 포인터가 제거할 노드의 다음 노드를 가르키도록 수정
 
+            if (removeNode == tail) tail = prevNode;
+
             // 데이터를 삭제한 후 크기를 줄여주고 true 리턴
             removeNode.data = null;
             removeNode.next = null;
             size--;
+            modCount++;
             return true;
         }
     }
@@ -245,7 +260,7 @@ public class SingleLinkedList<E> implements List<E> {
     public int indexOf(Object value) {
         int index = 0;
 
-        for (Node<E> node = head; node != null; node = node.next) {
+        for (Node<E> node = head; node != null; node = node.next, index++) {
             if (value.equals(node.data)) return index;
         }
 
@@ -281,5 +296,171 @@ public class SingleLinkedList<E> implements List<E> {
         }
         head = tail = null;
         size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ListItr(0);
+    }
+
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    // index 위치부터 시작하는 반복자를 반환 ( 시작 위치를 찾을 때만 search 를 사용한다. )
+    public ListIterator<E> listIterator(int index) {
+
+        if (index > size || index < 0) throw new IndexOutOfBoundsException();
+
+        return new ListItr(index);
+    }
+
+    /*
+        # 노드를 따라가는 ListIterator
+
+        for 문에서 get(i) 를 호출하면 매번 head 부터 search 하므로 전체를 도는 데 O(n²) 이 걸린다.
+
+        반복자는 커서 양쪽의 노드 ( prev, next ) 를 기억하고 있기 때문에 next / add / remove / set 이 O(1) 이다.
+
+        단, 단일 연결 리스트는 이전 노드를 가리키는 포인터가 없으므로 previous 는 head 부터 다시 찾는다. ( O(n) )
+
+        반복자 밖에서 리스트의 구조가 바뀌면 modCount 가 달라지므로 ConcurrentModificationException 을 발생시킨다. ( fail-fast )
+     */
+    private class ListItr implements ListIterator<E> {
+
+        private Node<E> prev; // 커서 바로 앞의 노드 ( nextIndex - 1 번째 )
+        private Node<E> next; // 커서 바로 뒤의 노드 ( nextIndex 번째 )
+        private int nextIndex;
+
+        private Node<E> lastReturned; // next / previous 가 마지막으로 반환한 노드
+        private Node<E> beforeLast; // lastReturned 의 이전 노드 ( remove 에 사용 )
+
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            this.prev = index == 0 ? null : search(index - 1);
+            this.next = index == 0 ? head : prev.next;
+            this.nextIndex = index;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (!hasNext()) throw new NoSuchElementException();
+
+            lastReturned = next;
+            beforeLast = prev;
+
+            prev = next;
+            next = next.next;
+            nextIndex++;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (!hasPrevious()) throw new NoSuchElementException();
+
+            // 커서 앞의 앞 노드는 head 부터 찾아야 한다.
+            Node<E> newPrev = nextIndex == 1 ? null : search(nextIndex - 2);
+
+            lastReturned = prev;
+            beforeLast = newPrev;
+
+            next = prev;
+            prev = newPrev;
+            nextIndex--;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        // 마지막으로 반환한 노드를 이전 노드와 다음 노드를 직접 이어서 삭제한다.
+        @Override
+        public void remove() {
+            checkForComodification();
+
+            if (lastReturned == null) throw new IllegalStateException();
+
+            Node<E> after = lastReturned.next;
+
+            if (beforeLast == null) head = after;
+            else beforeLast.next = after;
+
+            if (lastReturned == tail) tail = beforeLast;
+
+            if (lastReturned == prev) { // next 로 반환한 노드를 삭제한 경우 커서가 한 칸 앞으로 온다.
+                prev = beforeLast;
+                nextIndex--;
+            } else { // previous 로 반환한 노드를 삭제한 경우
+                next = after;
+            }
+
+            lastReturned.data = null;
+            lastReturned.next = null;
+            lastReturned = null;
+
+            size--;
+            expectedModCount = ++modCount;
+        }
+
+        @Override
+        public void set(E value) {
+            checkForComodification();
+
+            if (lastReturned == null) throw new IllegalStateException();
+
+            lastReturned.data = value;
+        }
+
+        // 커서 위치 ( prev 와 next 사이 ) 에 새로운 노드를 연결한다.
+        @Override
+        public void add(E value) {
+            checkForComodification();
+
+            Node<E> newNode = new Node<>(value);
+
+            newNode.next = next;
+
+            if (prev == null) head = newNode;
+            else prev.next = newNode;
+
+            if (next == null) tail = newNode;
+
+            prev = newNode;
+            nextIndex++;
+            lastReturned = null;
+
+            size++;
+            expectedModCount = ++modCount;
+        }
     }
 }
@@ -0,0 +1,288 @@
+package list;
+
+
+/*
+    # TieredVector
+
+    요소들을 크기가 b ( 2 의 거듭제곱 ) 인 원형 배열 블록 여러 개에 나누어 담는 리스트
+
+    마지막 블록을 제외한 모든 블록은 항상 가득 차 있으므로 index 번째 요소는 ( index / b ) 번째 블록의 ( index % b ) 번째에 있다.
+
+    - get / set : 블록과 블록 안의 위치를 바로 계산하므로 O(1)
+    - add(index) : 해당 블록 안에서만 요소를 밀고 ( O(b) ), 넘치는 마지막 요소는 다음 블록의 앞에 넣는다.
+                   원형 배열이므로 블록마다 앞에 넣고 뒤에서 빼는 것이 O(1) 이고, 블록이 n / b 개이므로 전체는 O(b + n / b)
+    - remove(index) : add 의 반대로 다음 블록들의 첫 요소를 하나씩 앞 블록의 뒤로 옮긴다.
+
+    b 를 약 √n 으로 유지하므로 임의의 위치에 대한 추가 / 삭제가 O(√n) 이다.
+
+    요소가 2b² 개를 넘으면 b 를 두 배로, b² / 8 개 미만이면 b 를 반으로 바꾸어 다시 구성한다. ( 분할 상환 O(1) )
+
+ */
+public class TieredVector<E> implements List<E> {
+
+    private static final int MIN_BLOCK_SIZE = 8; // 최소 블록 크기
+
+    // 원형 배열로 만든 블록
+    private static final class Block {
+        final Object[] items;
+        final int mask;
+        int head; // 첫 번째 요소의 위치
+        int count; // 요소 개수
+
+        Block(int size) {
+            this.items = new Object[size];
+            this.mask = size - 1;
+        }
+
+        Object get(int offset) {
+            return items[(head + offset) & mask];
+        }
+
+        void set(int offset, Object value) {
+            items[(head + offset) & mask] = value;
+        }
+
+        void addFirst(Object value) {
+            head = (head - 1) & mask;
+            items[head] = value;
+            count++;
+        }
+
+        void addLast(Object value) {
+            items[(head + count) & mask] = value;
+            count++;
+        }
+
+        Object removeFirst() {
+            Object value = items[head];
+            items[head] = null;
+            head = (head + 1) & mask;
+            count--;
+            return value;
+        }
+
+        Object removeLast() {
+            int idx = (head + count - 1) & mask;
+            Object value = items[idx];
+            items[idx] = null;
+            count--;
+            return value;
+        }
+
+        // offset 위치에 추가하며, 앞쪽과 뒤쪽 중 요소가 적은 쪽을 한 칸씩 민다.
+        void add(int offset, Object value) {
+            if (offset < count - offset) {
+                head = (head - 1) & mask;
+
+                for (int i = 0; i < offset; i++) {
+                    items[(head + i) & mask] = items[(head + i + 1) & mask];
+                }
+            } else {
+                for (int i = count; i > offset; i--) {
+                    items[(head + i) & mask] = items[(head + i - 1) & mask];
+                }
+            }
+
+            items[(head + offset) & mask] = value;
+            count++;
+        }
+
+        // offset 위치의 요소를 삭제하며, 앞쪽과 뒤쪽 중 요소가 적은 쪽을 한 칸씩 당긴다.
+        Object remove(int offset) {
+            Object value = items[(head + offset) & mask];
+
+            if (offset < count - offset - 1) {
+                for (int i = offset; i > 0; i--) {
+                    items[(head + i) & mask] = items[(head + i - 1) & mask];
+                }
+
+                items[head] = null;
+                head = (head + 1) & mask;
+            } else {
+                for (int i = offset; i < count - 1; i++) {
+                    items[(head + i) & mask] = items[(head + i + 1) & mask];
+                }
+
+                items[(head + count - 1) & mask] = null;
+            }
+
+            count--;
+            return value;
+        }
+    }
+
+    private Block[] blocks; // 블록들 ( 0 ~ blockCount - 1 만 사용 )
+    private int blockCount; // 사용 중인 블록 개수
+    private int shift; // log2(b)
+    private int size; // 요소 개수
+
+    public TieredVector() {
+        this.shift = Integer.numberOfTrailingZeros(MIN_BLOCK_SIZE);
+        this.blocks = new Block[MIN_BLOCK_SIZE];
+        this.blockCount = 0;
+        this.size = 0;
+    }
+
+    private int blockSize() {
+        return 1 << shift;
+    }
+
+    // 블록 크기를 1 << newShift 로 바꾸어 모든 요소를 다시 담는 메소드
+    private void rebuild(int newShift) {
+        Object[] values = new Object[size];
+        int n = 0;
+
+        for (int i = 0; i < blockCount; i++) {
+            Block block = blocks[i];
+
+            for (int j = 0; j < block.count; j++) {
+                values[n++] = block.get(j);
+            }
+        }
+
+        shift = newShift;
+
+        int b = blockSize();
+
+        blockCount = (size + b - 1) / b;
+        blocks = new Block[Math.max(b, blockCount)];
+
+        for (int i = 0; i < blockCount; i++) {
+            Block block = new Block(b);
+            int count = Math.min(b, size - i * b);
+
+            System.arraycopy(values, i * b, block.items, 0, count);
+            block.count = count;
+
+            blocks[i] = block;
+        }
+    }
+
+    // 마지막에 비어있는 블록을 하나 추가하는 메소드
+    private void appendBlock() {
+        if (blockCount == blocks.length) {
+            Block[] newBlocks = new Block[blocks.length * 2];
+            System.arraycopy(blocks, 0, newBlocks, 0, blockCount);
+            blocks = newBlocks;
+        }
+
+        blocks[blockCount++] = new Block(blockSize());
+    }
+
+    @Override
+    public boolean add(E value) {
+        add(size, value);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E value) {
+
+        if (index > size || index < 0) throw new IndexOutOfBoundsException();
+
+        // 마지막 블록이 가득 차 있으면 넘치는 요소를 받을 블록을 추가한다.
+        if (blockCount == 0 || blocks[blockCount - 1].count == blockSize()) appendBlock();
+
+        int k = index >> shift;
+
+        // 뒤쪽 블록부터 앞 블록의 마지막 요소를 자신의 앞으로 옮겨서 k 번째 블록에 한 칸을 비운다.
+        for (int j = blockCount - 1; j > k; j--) {
+            blocks[j].addFirst(blocks[j - 1].removeLast());
+        }
+
+        blocks[k].add(index & (blockSize() - 1), value);
+        size++;
+
+        if (size > 2 * blockSize() * blockSize()) rebuild(shift + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+
+        if (index >= size || index < 0) throw new IndexOutOfBoundsException();
+
+        int k = index >> shift;
+
+        E element = (E) blocks[k].remove(index & (blockSize() - 1));
+
+        // 뒤쪽 블록의 첫 요소를 앞 블록의 뒤로 옮겨서 마지막 블록을 제외한 블록들을 다시 가득 채운다.
+        for (int j = k + 1; j < blockCount; j++) {
+            blocks[j - 1].addLast(blocks[j].removeFirst());
+        }
+
+        if (blocks[blockCount - 1].count == 0) blocks[--blockCount] = null;
+
+        size--;
+
+        if (blockSize() > MIN_BLOCK_SIZE && size < blockSize() * blockSize() / 8) rebuild(shift - 1);
+
+        return element;
+    }
+
+    @Override
+    public boolean remove(Object value) {
+
+        int index = indexOf(value);
+
+        if (index == -1) return false;
+
+        remove(index);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+
+        if (index >= size || index < 0) throw new IndexOutOfBoundsException();
+
+        return (E) blocks[index >> shift].get(index & (blockSize() - 1));
+    }
+
+    @Override
+    public void set(int index, E value) {
+
+        if (index >= size || index < 0) throw new IndexOutOfBoundsException();
+
+        blocks[index >> shift].set(index & (blockSize() - 1), value);
+    }
+
+    @Override
+    public int indexOf(Object value) {
+
+        for (int i = 0, index = 0; i < blockCount; i++) {
+            Block block = blocks[i];
+
+            for (int j = 0; j < block.count; j++, index++) {
+                if (value.equals(block.get(j))) return index;
+            }
+        }
+
+        return -1;
+    }
+
+    // 이하 설명 생략
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        this.shift = Integer.numberOfTrailingZeros(MIN_BLOCK_SIZE);
+        this.blocks = new Block[MIN_BLOCK_SIZE];
+        this.blockCount = 0;
+        this.size = 0;
+    }
+}
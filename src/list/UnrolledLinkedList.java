@@ -0,0 +1,332 @@
+package list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/*
+    # UnrolledLinkedList
+
+    DoublyLinkedList 와 같이 노드를 양방향으로 연결하지만, 노드 하나에 요소 하나가 아니라 작은 배열 ( 기본 32 칸 ) 을 담는 리스트
+
+    - search : 노드마다 요소 개수를 알고 있으므로 노드 단위로 건너뛰며 찾는다. 포인터를 따라가는 횟수가 요소 개수 / 노드 크기 로 줄어든다.
+    - add    : 찾은 노드의 배열 안에서만 System.arraycopy 로 민다. 노드가 가득 차 있으면 절반을 새로운 노드로 나눈다. ( split ) 단, 마지막에 추가할 때는 나누지 않고 빈 노드를 새로 연결한다.
+    - remove : 노드의 배열 안에서만 당긴다. 노드가 절반 미만으로 줄면 다음 노드와 합치거나 ( merge ) 다음 노드에서 요소를 빌려온다.
+
+    모든 노드가 ( 마지막 노드를 제외하고 ) 최소 절반은 차 있으므로 노드 할당과 포인터 이동이 연결 리스트보다 크게 줄고,
+
+    한 노드 안의 요소들은 연속된 배열에 있어 차례대로 읽을 때 캐시를 잘 활용한다.
+
+ */
+public class UnrolledLinkedList<E> implements List<E> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 32; // 노드 하나에 담을 수 있는 기본 요소 개수
+
+    private static final class Node {
+        final Object[] items;
+        int count;
+        Node next;
+        Node prev;
+
+        Node(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+
+    private final int nodeCapacity;
+
+    private Node head;
+    private Node tail;
+    private int size;
+    private int modCount; // 구조가 바뀐 횟수 ( 반복자가 다른 곳에서의 변경을 감지하는 데 사용 )
+
+    private int searchOffset; // search 로 찾은 노드 안에서 요소의 위치
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    public UnrolledLinkedList(int nodeCapacity) {
+
+        if (nodeCapacity < 4) throw new IllegalArgumentException("nodeCapacity 는 4 이상이어야 합니다.");
+
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    // index 번째 요소가 있는 노드를 찾고 노드 안의 위치를 searchOffset 에 담는 메소드 ( 가까운 쪽 끝부터 노드 단위로 건너뛴다. )
+    private Node search(int index) {
+
+        if (index < size / 2) {
+            Node node = head;
+
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+
+            searchOffset = index;
+            return node;
+        } else {
+            Node node = tail;
+            int start = size - node.count; // node 의 첫 번째 요소의 위치
+
+            while (index < start) {
+                node = node.prev;
+                start -= node.count;
+            }
+
+            searchOffset = index - start;
+            return node;
+        }
+    }
+
+    // node 뒤에 새로운 노드를 연결하는 메소드
+    private Node linkAfter(Node node) {
+        Node newNode = new Node(nodeCapacity);
+
+        newNode.prev = node;
+
+        if (node == null) {
+            head = tail = newNode;
+            return newNode;
+        }
+
+        newNode.next = node.next;
+
+        if (node.next != null) node.next.prev = newNode;
+        else tail = newNode;
+
+        node.next = newNode;
+
+        return newNode;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) node.prev.next = node.next;
+        else head = node.next;
+
+        if (node.next != null) node.next.prev = node.prev;
+        else tail = node.prev;
+
+        node.next = node.prev = null;
+    }
+
+    @Override
+    public boolean add(E value) {
+        add(size, value);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E value) {
+
+        if (index > size || index < 0) throw new IndexOutOfBoundsException();
+
+        Node node;
+        int offset;
+
+        if (index == size) {
+            // 마지막에 추가하는 경우 tail 노드의 끝, tail 이 가득 차 있으면 나누지 않고 빈 노드를 새로 연결한다.
+            // ( 나누면 add(E) 로만 만든 리스트의 노드들이 모두 절반만 차게 된다. )
+            node = tail != null && tail.count < nodeCapacity ? tail : linkAfter(tail);
+            offset = node.count;
+        } else {
+            node = search(index);
+            offset = searchOffset;
+        }
+
+        // 가득 찬 노드는 뒤쪽 절반을 새로운 노드로 옮긴 뒤, 추가할 위치가 있는 쪽에 추가한다.
+        if (node.count == nodeCapacity) {
+            Node newNode = linkAfter(node);
+            int half = nodeCapacity / 2;
+
+            System.arraycopy(node.items, half, newNode.items, 0, nodeCapacity - half);
+            Arrays.fill(node.items, half, nodeCapacity, null);
+
+            newNode.count = nodeCapacity - half;
+            node.count = half;
+
+            if (offset > half) {
+                node = newNode;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+
+        node.items[offset] = value;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+
+        if (index >= size || index < 0) throw new IndexOutOfBoundsException();
+
+        Node node = search(index);
+        int offset = searchOffset;
+
+        E element = (E) node.items[offset];
+
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+        size--;
+        modCount++;
+
+        rebalance(node);
+
+        return element;
+    }
+
+    // 절반 미만으로 줄어든 노드를 다음 노드와 합치거나, 다음 노드에서 요소를 빌려와 절반 이상으로 만드는 메소드
+    private void rebalance(Node node) {
+
+        int half = nodeCapacity / 2;
+
+        if (node.count >= half) return;
+
+        Node next = node.next;
+
+        if (next == null) {
+            // 마지막 노드는 비었을 때만 삭제한다.
+            if (node.count == 0) unlink(node);
+            return;
+        }
+
+        if (node.count + next.count <= nodeCapacity) {
+            // 다음 노드의 요소를 모두 옮기고 다음 노드를 삭제 ( merge )
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+
+            unlink(next);
+        } else {
+            // 두 노드의 요소 개수가 비슷해지도록 다음 노드의 앞쪽 요소들을 빌려온다.
+            int move = next.count - (node.count + next.count) / 2;
+
+            System.arraycopy(next.items, 0, node.items, node.count, move);
+            System.arraycopy(next.items, move, next.items, 0, next.count - move);
+            Arrays.fill(next.items, next.count - move, next.count, null);
+
+            node.count += move;
+            next.count -= move;
+        }
+    }
+
+    @Override
+    public boolean remove(Object value) {
+
+        int index = indexOf(value);
+
+        if (index == -1) return false;
+
+        remove(index);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+
+        if (index >= size || index < 0) throw new IndexOutOfBoundsException();
+
+        Node node = search(index);
+
+        return (E) node.items[searchOffset];
+    }
+
+    @Override
+    public void set(int index, E value) {
+
+        if (index >= size || index < 0) throw new IndexOutOfBoundsException();
+
+        Node node = search(index);
+
+        node.items[searchOffset] = value;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+
+        int index = 0;
+
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (value.equals(node.items[i])) return index + i;
+            }
+
+            index += node.count;
+        }
+
+        return -1;
+    }
+
+    // 노드의 배열을 차례대로 읽는 반복자 ( 기본 반복자의 get 은 매번 search 하므로 대신 사용한다. )
+    // 반복자 밖에서 리스트의 구조가 바뀌면 modCount 가 달라지므로 ConcurrentModificationException 을 발생시킨다. ( fail-fast )
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final int expectedModCount = modCount;
+            private Node node = head;
+            private int offset = 0;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (remaining == 0) throw new NoSuchElementException();
+
+                while (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+
+                remaining--;
+                return (E) node.items[offset++];
+            }
+        };
+    }
+
+    // 이하 설명 생략
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+
+        for (Node node = head; node != null; ) {
+            Node next = node.next;
+
+            Arrays.fill(node.items, 0, node.count, null);
+            node.next = node.prev = null;
+
+            node = next;
+        }
+
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+}
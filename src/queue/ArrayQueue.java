@@ -1,6 +1,9 @@
 package queue;
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class ArrayQueue < E > implements QueueInterface < E > {
 
@@ -126,6 +129,99 @@ public class ArrayQueue < E > implements QueueInterface < E > {
         return item;
     }
 
+    // 여러 데이터를 한 번에 추가하는 offerAll 메소드, 크기 조정은 한 번만 하고 System.arraycopy 로 연속된 구간을 복사한다.
+    @Override
+    public int offerAll(E[] values, int from, int to) {
+
+        if (from < 0 || to > values.length || from > to) throw new IndexOutOfBoundsException();
+
+        int count = to - from;
+
+        if (count == 0) return 0;
+
+        // front 는 비워두어야 하므로 size + count + 1 칸이 필요하다.
+        if (size + count + 1 > array.length) {
+            resize(Math.max(array.length * 2, size + count + 1));
+        }
+
+        // rear 다음 칸부터 배열의 끝까지 한 번, 남은 데이터는 배열의 처음부터 한 번 복사한다.
+        int start = (rear + 1) % array.length;
+        int first = Math.min(count, array.length - start);
+
+        System.arraycopy(values, from, array, start, first);
+        System.arraycopy(values, from + first, array, 0, count - first);
+
+        rear = (rear + count) % array.length;
+        size += count;
+
+        return count;
+    }
+
+    // 최대 maxElements 개의 데이터를 꺼내 dest 배열에 담는 drainTo 메소드, 크기 조정은 마지막에 한 번만 확인한다.
+    @Override
+    public int drainTo(E[] dest, int offset, int maxElements) {
+
+        if (offset < 0 || offset > dest.length) throw new IndexOutOfBoundsException();
+
+        int count = Math.min(Math.min(maxElements, size), dest.length - offset);
+
+        if (count <= 0) return 0;
+
+        int start = (front + 1) % array.length;
+        int first = Math.min(count, array.length - start);
+
+        System.arraycopy(array, start, dest, offset, first);
+        System.arraycopy(array, 0, dest, offset + first, count - first);
+
+        Arrays.fill(array, start, start + first, null);
+        Arrays.fill(array, 0, count - first, null);
+
+        front = (front + count) % array.length;
+        size -= count;
+
+        shrink();
+
+        return count;
+    }
+
+    // 최대 maxElements 개의 데이터를 꺼내 순서대로 consumer 에 넘기는 drainTo 메소드
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super E> consumer, int maxElements) {
+
+        int count = Math.min(maxElements, size);
+
+        if (count <= 0) return 0;
+
+        try {
+            for (int i = 0; i < count; i++) {
+                // 나머지 연산 대신 배열의 끝에 도달했을 때만 처음으로 돌아간다.
+                front = front + 1 == array.length ? 0 : front + 1;
+
+                E item = (E) array[front];
+                array[front] = null;
+                size--;
+
+                consumer.accept(item);
+            }
+        } finally {
+            shrink();
+        }
+
+        return count;
+    }
+
+    // 여러 데이터를 꺼낸 뒤 용적이 충분히 작아질 때까지 줄일 크기를 구해 한 번만 resize 하는 메소드
+    private void shrink() {
+        int newCapacity = array.length;
+
+        while (newCapacity > DEFAULT_CAPACITY && size < newCapacity / 4) {
+            newCapacity = Math.max(DEFAULT_CAPACITY, newCapacity / 2);
+        }
+
+        if (newCapacity != array.length) resize(newCapacity);
+    }
+
     // 이하 설명 생략
     public int size() {
         return size;
@@ -150,4 +246,10 @@ public class ArrayQueue < E > implements QueueInterface < E > {
         }
         front = rear = size = 0;
     }
+
+    // front 다음 칸부터 size 개의 요소를 wrap 되는 지점과 관계없이 반으로 나누는 Spliterator ( SIZED | SUBSIZED )
+    @Override
+    public Spliterator<E> spliterator() {
+        return new CircularArraySpliterator<>(array, (front + 1) % array.length, size);
+    }
 }
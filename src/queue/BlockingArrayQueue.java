@@ -0,0 +1,325 @@
+package queue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class BlockingArrayQueue < E > implements BlockingQueueInterface < E > {
+
+    /*
+        # 배열로 구현한 Blocking Queue
+
+        ArrayQueue 와 같은 원형 큐이지만 크기가 고정되어 있고 여러 스레드가 동시에 사용할 수 있다.
+
+        offer 는 rear 만, poll 은 front 만 바꾸기 때문에 두 개의 락을 따로 둔다.
+
+        - putLock  : rear 를 보호하며, 공간이 생기기를 기다리는 notFull 조건을 가진다.
+        - takeLock : front 를 보호하며, 데이터가 들어오기를 기다리는 notEmpty 조건을 가진다.
+
+        두 쪽이 함께 보는 데이터 개수는 AtomicInteger 로 관리하기 때문에 생산자와 소비자가 서로를 막지 않는다.
+
+        synchronized 대신 ReentrantLock 을 사용하므로 가상 스레드가 기다리는 동안 캐리어 스레드를 붙잡지 ( pinning ) 않는다.
+     */
+
+    private final Object[] array; // Queue 를 구성할 배열 ( front 는 비워두므로 capacity + 1 크기 )
+    private final int capacity; // 담을 수 있는 최대 데이터 개수
+
+    private int front; // Queue 의 맨 처음 ( takeLock 으로 보호 )
+    private int rear; // Queue 의 맨 끝 ( putLock 으로 보호 )
+
+    private final AtomicInteger size = new AtomicInteger(); // Queue 에 담겨있는 데이터 개수
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
+    public BlockingArrayQueue(int capacity) {
+
+        if (capacity < 1) throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다.");
+
+        this.array = new Object[capacity + 1];
+        this.capacity = capacity;
+        this.front = 0;
+        this.rear = 0;
+    }
+
+    // putLock 을 잡은 상태에서 rear 에 데이터를 추가하고, 추가하기 전의 개수를 반환
+    private int enqueue(E item) {
+        rear = (rear + 1) % array.length;
+        array[rear] = item;
+
+        int count = size.getAndIncrement();
+
+        // 아직 공간이 남아있다면 기다리는 다른 생산자를 깨운다.
+        if (count + 1 < capacity) notFull.signal();
+
+        return count;
+    }
+
+    // takeLock 을 잡은 상태에서 가장 먼저 들어온 데이터를 반환 ( 삭제하지 않는다. )
+    @SuppressWarnings("unchecked")
+    private E first() {
+        return (E) array[(front + 1) % array.length];
+    }
+
+    // takeLock 을 잡은 상태에서 front 의 데이터를 삭제하고, 삭제하기 전의 데이터 개수를 반환
+    // 가득 차 있던 큐 ( 반환값 == capacity ) 라면 호출한 쪽에서 takeLock 을 놓은 뒤에 signalNotFull 을 호출한다.
+    private int dequeue() {
+        front = (front + 1) % array.length;
+        array[front] = null;
+
+        int count = size.getAndDecrement();
+
+        // 아직 데이터가 남아있다면 기다리는 다른 소비자를 깨운다.
+        if (count > 1) notEmpty.signal();
+
+        return count;
+    }
+
+    // 비어있던 큐에 데이터를 넣은 경우 기다리는 소비자를 깨우는 메소드
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    // 가득 차 있으면 바로 false 를 반환하는 offer 메소드
+    @Override
+    public boolean offer(E item) {
+
+        if (item == null) throw new NullPointerException();
+        if (size.get() == capacity) return false;
+
+        int count = -1;
+
+        putLock.lock();
+        try {
+            if (size.get() < capacity) count = enqueue(item);
+        } finally {
+            putLock.unlock();
+        }
+
+        if (count == 0) signalNotEmpty();
+
+        return count >= 0;
+    }
+
+    @Override
+    public boolean offer(E item, long timeout, TimeUnit unit) throws InterruptedException {
+
+        if (item == null) throw new NullPointerException();
+
+        long nanos = unit.toNanos(timeout);
+        int count;
+
+        putLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity) {
+                if (nanos <= 0) return false;
+
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            count = enqueue(item);
+        } finally {
+            putLock.unlock();
+        }
+
+        if (count == 0) signalNotEmpty();
+
+        return true;
+    }
+
+    // 공간이 생길 때까지 기다렸다가 추가하는 put 메소드
+    @Override
+    public void put(E item) throws InterruptedException {
+
+        if (item == null) throw new NullPointerException();
+
+        int count;
+
+        putLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity) {
+                notFull.await();
+            }
+
+            count = enqueue(item);
+        } finally {
+            putLock.unlock();
+        }
+
+        if (count == 0) signalNotEmpty();
+    }
+
+    // 비어있으면 바로 null 을 반환하는 poll 메소드
+    @Override
+    public E poll() {
+
+        if (size.get() == 0) return null;
+
+        E item;
+        int count;
+
+        takeLock.lock();
+        try {
+            if (size.get() == 0) return null;
+
+            item = first();
+            count = dequeue();
+        } finally {
+            takeLock.unlock();
+        }
+
+        // 가득 차 있던 큐에서 꺼낸 경우 takeLock 을 놓은 뒤에 기다리는 생산자를 깨운다.
+        if (count == capacity) signalNotFull();
+
+        return item;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+        long nanos = unit.toNanos(timeout);
+        E item;
+        int count;
+
+        takeLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                if (nanos <= 0) return null;
+
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            item = first();
+            count = dequeue();
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (count == capacity) signalNotFull();
+
+        return item;
+    }
+
+    // 데이터가 들어올 때까지 기다렸다가 꺼내는 take 메소드
+    @Override
+    public E take() throws InterruptedException {
+
+        E item;
+        int count;
+
+        takeLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                notEmpty.await();
+            }
+
+            item = first();
+            count = dequeue();
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (count == capacity) signalNotFull();
+
+        return item;
+    }
+
+    // takeLock 을 한 번만 잡고 최대 maxElements 개의 데이터를 꺼내 dest 배열에 담는 drainTo 메소드
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(E[] dest, int offset, int maxElements) {
+
+        if (offset < 0 || offset > dest.length) throw new IndexOutOfBoundsException();
+
+        int count;
+        int before;
+
+        takeLock.lock();
+        try {
+            count = Math.min(Math.min(maxElements, size.get()), dest.length - offset);
+
+            if (count <= 0) return 0;
+
+            for (int i = 0; i < count; i++) {
+                front = (front + 1) % array.length;
+
+                dest[offset + i] = (E) array[front];
+                array[front] = null;
+            }
+
+            before = size.getAndAdd(-count);
+
+            if (before > count) notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+
+        // 가득 차 있던 큐에서 꺼낸 경우 기다리는 생산자를 깨운다. ( 깨어난 생산자가 남은 공간을 보고 다른 생산자를 이어서 깨운다. )
+        if (before == capacity) signalNotFull();
+
+        return count;
+    }
+
+    public E remove() {
+        E item = poll();
+
+        if (item == null) throw new NoSuchElementException();
+
+        return item;
+    }
+
+    @Override
+    public E peek() {
+
+        if (size.get() == 0) return null;
+
+        takeLock.lock();
+        try {
+            if (size.get() == 0) return null;
+
+            return first();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    public E element() {
+        E item = peek();
+
+        if (item == null) throw new NoSuchElementException();
+        return item;
+    }
+
+    // 이하 설명 생략
+    @Override
+    public int remainingCapacity() {
+        return capacity - size.get();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+}
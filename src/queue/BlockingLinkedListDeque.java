@@ -0,0 +1,280 @@
+package queue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class BlockingLinkedListDeque < E > implements BlockingQueueInterface < E > {
+
+    /*
+        # 연결 리스트로 구현한 Blocking Deque
+
+        LinkedListDeque 를 감싸서 여러 스레드가 동시에 사용할 수 있도록 하고, 비어있거나 가득 차 있을 때 기다리는 메소드를 추가한다.
+
+        덱은 양쪽 끝에서 모두 추가와 삭제가 일어나고, 요소가 하나뿐일 때는 head 와 tail 이 같은 노드를 가리키기 때문에
+
+        BlockingArrayQueue 처럼 앞과 뒤의 락을 나누면 두 스레드가 같은 노드를 동시에 바꿀 수 있다.
+
+        그래서 하나의 ReentrantLock 에 notEmpty, notFull 두 개의 조건을 두어 기다리는 스레드를 구분한다.
+
+        synchronized 대신 ReentrantLock 을 사용하므로 가상 스레드가 기다리는 동안 캐리어 스레드를 붙잡지 ( pinning ) 않는다.
+     */
+
+    private final LinkedListDeque<E> deque = new LinkedListDeque<>(); // 실제 데이터를 담는 덱
+    private final int capacity; // 담을 수 있는 최대 데이터 개수
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public BlockingLinkedListDeque() { // 크기 제한이 없는 생성자
+        this(Integer.MAX_VALUE);
+    }
+
+    public BlockingLinkedListDeque(int capacity) {
+
+        if (capacity < 1) throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다.");
+
+        this.capacity = capacity;
+    }
+
+    // 락을 잡은 상태에서 앞 또는 뒤에 추가하고 기다리는 소비자를 깨운다.
+    private void link(E value, boolean first) {
+        if (first) {
+            deque.offerFirst(value);
+        } else {
+            deque.offerLast(value);
+        }
+
+        notEmpty.signal();
+    }
+
+    // 락을 잡은 상태에서 앞 또는 뒤의 데이터를 삭제하고 기다리는 생산자를 깨운다.
+    private E unlink(boolean first) {
+        E item = first ? deque.pollFirst() : deque.pollLast();
+
+        notFull.signal();
+
+        return item;
+    }
+
+    // 공간이 없으면 바로 false 를 반환하는 offer 메소드들
+    @Override
+    public boolean offer(E value) {
+        return offerLast(value);
+    }
+
+    public boolean offerFirst(E value) {
+        return offer(value, true);
+    }
+
+    public boolean offerLast(E value) {
+        return offer(value, false);
+    }
+
+    private boolean offer(E value, boolean first) {
+
+        if (value == null) throw new NullPointerException();
+
+        lock.lock();
+        try {
+            if (deque.size() == capacity) return false;
+
+            link(value, first);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E value, long timeout, TimeUnit unit) throws InterruptedException {
+
+        if (value == null) throw new NullPointerException();
+
+        long nanos = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                if (nanos <= 0) return false;
+
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            link(value, false);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 공간이 생길 때까지 기다렸다가 추가하는 put 메소드들
+    @Override
+    public void put(E value) throws InterruptedException {
+        putLast(value);
+    }
+
+    public void putFirst(E value) throws InterruptedException {
+        put(value, true);
+    }
+
+    public void putLast(E value) throws InterruptedException {
+        put(value, false);
+    }
+
+    private void put(E value, boolean first) throws InterruptedException {
+
+        if (value == null) throw new NullPointerException();
+
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                notFull.await();
+            }
+
+            link(value, first);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 비어있으면 바로 null 을 반환하는 poll 메소드들
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    public E pollFirst() {
+        return poll(true);
+    }
+
+    public E pollLast() {
+        return poll(false);
+    }
+
+    private E poll(boolean first) {
+
+        lock.lock();
+        try {
+            if (deque.size() == 0) return null;
+
+            return unlink(first);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+        long nanos = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                if (nanos <= 0) return null;
+
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            return unlink(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 데이터가 들어올 때까지 기다렸다가 꺼내는 take 메소드들
+    @Override
+    public E take() throws InterruptedException {
+        return takeFirst();
+    }
+
+    public E takeFirst() throws InterruptedException {
+        return take(true);
+    }
+
+    public E takeLast() throws InterruptedException {
+        return take(false);
+    }
+
+    private E take(boolean first) throws InterruptedException {
+
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                notEmpty.await();
+            }
+
+            return unlink(first);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E remove() {
+        E item = poll();
+
+        if (item == null) throw new NoSuchElementException();
+
+        return item;
+    }
+
+    // 이하 설명 생략
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    public E peekFirst() {
+        lock.lock();
+        try {
+            return deque.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E peekLast() {
+        lock.lock();
+        try {
+            return deque.peekLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            deque.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package queue;
+
+import java.util.concurrent.TimeUnit;
+
+public interface BlockingQueueInterface < E > extends QueueInterface < E > {
+
+    /*
+        자바 BlockingQueue 인터페이스 ( SE 16 & JDK 16 API 참고 )
+
+        QueueInterface 의 offer / poll / peek 은 큐가 가득 차있거나 비어있으면 바로 false 나 null 을 반환한다.
+
+        그래서 소비자는 큐가 빌 때마다 계속 확인하거나 ( busy-spin ) 잠시 멈췄다 다시 확인해야 한다.
+
+        BlockingQueue 는 요소가 들어오거나 공간이 생길 때까지 스레드를 대기시키는 메소드를 추가로 제공한다.
+
+        생산자 - 소비자 구조에서 스레드 사이에 작업을 넘겨줄 때 사용된다.
+    */
+
+
+    void put(E value) throws InterruptedException;
+    /*
+        공간이 생길 때까지 기다렸다가 데이터를 넣는 메소드
+     */
+
+    boolean offer(E value, long timeout, TimeUnit unit) throws InterruptedException;
+    /*
+        최대 timeout 만큼 기다렸다가 데이터를 넣는 메소드, 시간 안에 넣지 못하면 false 를 반환
+     */
+
+    E take() throws InterruptedException;
+    /*
+        데이터가 들어올 때까지 기다렸다가 가장 먼저 나오는 데이터를 삭제하고 리턴하는 메소드
+     */
+
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+    /*
+        최대 timeout 만큼 기다렸다가 데이터를 삭제하고 리턴하는 메소드, 시간 안에 데이터가 없으면 null 을 반환
+     */
+
+    int remainingCapacity();
+    /*
+        기다리지 않고 더 넣을 수 있는 데이터의 개수를 리턴하는 메소드
+     */
+
+
+}
@@ -0,0 +1,99 @@
+package queue;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/*
+    # 원형 배열의 구간을 나누는 Spliterator
+
+    ArrayQueue / ArrayDeque 처럼 요소가 배열의 끝을 넘어 처음으로 이어지는 ( wrap ) 경우에도
+
+    복사 없이 논리적인 위치 [ index, fence ) 를 반으로 나누어 병렬 스트림의 각 스레드에 넘긴다.
+
+    i 번째 요소의 실제 위치는 ( start + i ) % array.length 이며, 나눈 두 조각의 크기를 정확히 알 수 있으므로 SIZED | SUBSIZED 이다.
+ */
+final class CircularArraySpliterator<E> implements Spliterator<E> {
+
+    private final Object[] array;
+    private final int start; // 0 번째 요소의 실제 위치
+    private int index; // 다음에 넘길 논리적 위치
+    private final int fence; // 마지막 논리적 위치 + 1
+
+    CircularArraySpliterator(Object[] array, int start, int size) {
+        this(array, start, 0, size);
+    }
+
+    private CircularArraySpliterator(Object[] array, int start, int index, int fence) {
+        this.array = array;
+        this.start = start;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E at(int i) {
+        int physical = start + i;
+
+        // 나머지 연산 대신 배열의 길이를 넘었을 때만 빼준다.
+        if (physical >= array.length) physical -= array.length;
+
+        return (E) array[physical];
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+
+        if (action == null) throw new NullPointerException();
+
+        if (index >= fence) return false;
+
+        action.accept(at(index++));
+        return true;
+    }
+
+    // wrap 되는 지점을 기준으로 두 번의 연속된 구간으로 나누어 반복한다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super E> action) {
+
+        if (action == null) throw new NullPointerException();
+
+        int from = index;
+        int to = fence;
+
+        index = fence;
+
+        int first = Math.min(to, array.length - start); // wrap 되기 전까지의 논리적 위치
+
+        for (int i = from; i < first; i++) {
+            action.accept((E) array[start + i]);
+        }
+
+        for (int i = Math.max(from, first); i < to; i++) {
+            action.accept((E) array[start + i - array.length]);
+        }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int mid = (index + fence) >>> 1;
+
+        if (mid <= index) return null;
+
+        // 앞쪽 절반을 새로운 Spliterator 로 넘기고 자신은 뒤쪽 절반을 맡는다.
+        Spliterator<E> prefix = new CircularArraySpliterator<>(array, start, index, mid);
+        index = mid;
+
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,173 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentLinkedListQueue<E> implements QueueInterface<E> {
+
+    /*
+        # 락을 사용하지 않는 연결 리스트 큐 ( Michael-Scott Queue )
+
+        LinkedLIstQueue 와 같이 노드를 연결하여 만든 크기 제한이 없는 큐이며 여러 스레드가 동시에 사용할 수 있다.
+
+        head 는 항상 더미 노드를 가리키고 실제 첫 번째 요소는 head.next 에 있다.
+
+        - offer : tail 노드의 next 를 CAS 로 새로운 노드로 바꾼 뒤, tail 을 새로운 노드로 옮긴다.
+        - poll  : head 를 CAS 로 head.next 로 옮기고, 새로운 head ( 다음 더미 노드 ) 의 요소를 반환한다.
+
+        tail 을 옮기는 두 번째 CAS 는 실패해도 괜찮다. 다른 스레드가 tail.next 가 null 이 아닌 것을 보면 대신 옮겨준다.
+
+        size 는 LongAdder 로 센 근삿값이며, 동시에 변경되는 중에는 실제 개수와 다를 수 있다.
+     */
+
+    // data 는 poll 이 head 를 옮긴 뒤 null 로 비우므로, peek 이 null 을 읽었다면 바뀐 head 도 보이도록 volatile 로 둔다.
+    private static final class Node<E> {
+        volatile E data;
+        volatile Node<E> next;
+
+        Node(E data) {
+            this.data = data;
+        }
+    }
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedListQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedListQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<E> head; // 더미 노드
+    private volatile Node<E> tail; // 마지막 노드 ( 잠시 뒤처질 수 있다. )
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentLinkedListQueue() {
+        Node<E> dummy = new Node<>(null);
+
+        this.head = dummy;
+        this.tail = dummy;
+    }
+
+    @Override
+    public boolean offer(E value) {
+
+        if (value == null) throw new NullPointerException();
+
+        Node<E> newNode = new Node<>(value);
+
+        while (true) {
+            Node<E> last = tail;
+            Node<E> next = last.next;
+
+            if (last != tail) continue;
+
+            if (next == null) {
+                // 마지막 노드에 새로운 노드를 연결하는 데 성공하면 tail 을 옮긴다. ( 실패해도 다른 스레드가 옮겨준다. )
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);
+                    size.increment();
+                    return true;
+                }
+            } else {
+                // tail 이 뒤처져 있으므로 한 칸 옮겨준 뒤 다시 시도한다.
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+
+        while (true) {
+            Node<E> first = head;
+            Node<E> last = tail;
+            Node<E> next = first.next;
+
+            if (first != head) continue;
+
+            if (next == null) return null; // 비어있는 큐
+
+            if (first == last) {
+                // 요소는 있지만 tail 이 뒤처져 있으므로 옮겨준다.
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+
+            E item = next.data;
+
+            // head 를 옮기는 데 성공한 스레드만 요소를 가져가며, next 는 새로운 더미 노드가 된다.
+            if (HEAD.compareAndSet(this, first, next)) {
+                next.data = null;
+                size.decrement();
+                return item;
+            }
+        }
+    }
+
+    public E remove() {
+
+        E removed = poll();
+
+        if (removed == null) throw new NoSuchElementException();
+
+        return removed;
+    }
+
+    @Override
+    public E peek() {
+
+        while (true) {
+            Node<E> first = head;
+            Node<E> next = first.next;
+
+            if (next == null) return null;
+
+            E item = next.data;
+
+            // 읽는 사이에 head 가 바뀌지 않았다면 올바른 요소이다.
+            if (first == head) return item;
+        }
+    }
+
+    public E element() {
+
+        E element = peek();
+
+        if (element == null) throw new NoSuchElementException();
+
+        return element;
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        long count = size.sum();
+
+        if (count < 0) return 0;
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    public boolean contains(Object value) {
+
+        for (Node<E> x = head.next; x != null; x = x.next) {
+            E data = x.data;
+
+            if (data != null && value.equals(data)) return true;
+        }
+
+        return false;
+    }
+}
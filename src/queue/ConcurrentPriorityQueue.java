@@ -0,0 +1,207 @@
+package queue;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrentPriorityQueue<E> implements QueueInterface<E> {
+
+    /*
+        # 동시성 우선순위 큐 ( MultiQueue )
+
+        PriorityQueue 하나를 락으로 감싸면 모든 스레드가 offer / poll 때마다 같은 락을 기다리게 된다.
+
+        MultiQueue 는 c * p ( p = 코어 수 ) 개의 작은 우선순위 큐 ( 샤드 ) 를 두고 각각을 따로 잠근다.
+
+        - offer : 임의의 샤드 하나를 골라 잠금에 성공하면 그 샤드에 추가한다.
+        - poll  : 임의의 샤드 두 개를 골라 루트가 더 작은 쪽에서 꺼낸다.
+
+        잠금에 실패하면 기다리지 않고 다른 샤드를 고르기 때문에 스레드가 늘어나도 경합이 적다.
+
+        대신 poll 이 항상 전체의 최솟값을 돌려주지는 않는다. ( 느슨한 우선순위 큐 )
+
+        두 샤드 중 좋은 쪽을 고르는 방식에서 poll 이 돌려주는 요소의 순위 ( 전체에서 몇 번째로 작은지 ) 는
+
+        평균 O(샤드 수) 이며, 그보다 크게 벗어날 확률은 지수적으로 작아진다.
+
+        큐가 비어있을 때만 null 을 반환하도록 임의 선택이 계속 실패하면 모든 샤드를 차례로 확인한다.
+     */
+
+    private static final int DEFAULT_SHARDS_PER_THREAD = 2; // 코어 하나당 샤드 수 ( c )
+
+    // 락과 함께 묶인 하나의 우선순위 큐
+    private static final class Shard<E> {
+        final ReentrantLock lock = new ReentrantLock();
+        final PriorityQueue<E> heap;
+
+        volatile E top; // 잠그지 않고 비교할 수 있도록 기록해둔 루트 요소 ( 비어있으면 null )
+        volatile int size;
+
+        Shard(Comparator<? super E> comparator) {
+            this.heap = new PriorityQueue<>(comparator);
+        }
+
+        // 락을 잡은 상태에서 변경 후 호출하여 top 과 size 를 갱신한다.
+        void publish() {
+            size = heap.size();
+            top = heap.isEmpty() ? null : heap.peek();
+        }
+    }
+
+    private final Comparator<? super E> comparator;
+    private final Shard<E>[] shards;
+
+    public ConcurrentPriorityQueue() {
+        this(null);
+    }
+
+    public ConcurrentPriorityQueue(Comparator<? super E> comparator) {
+        this(DEFAULT_SHARDS_PER_THREAD * Runtime.getRuntime().availableProcessors(), comparator);
+    }
+
+    public ConcurrentPriorityQueue(int shardCount) {
+        this(shardCount, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentPriorityQueue(int shardCount, Comparator<? super E> comparator) {
+        if (shardCount < 1) throw new IllegalArgumentException("shardCount 는 1 이상이어야 합니다.");
+
+        this.comparator = comparator;
+        this.shards = (Shard<E>[]) new Shard<?>[shardCount];
+
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>(comparator);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E a, E b) {
+        if (comparator != null) return comparator.compare(a, b);
+
+        return ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    // 임의의 샤드를 골라 잠금에 성공할 때까지 반복한 뒤 추가하는 offer 메소드
+    @Override
+    public boolean offer(E value) {
+
+        if (value == null) throw new NullPointerException();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (true) {
+            Shard<E> shard = shards[random.nextInt(shards.length)];
+
+            if (shard.lock.tryLock()) {
+                try {
+                    shard.heap.offer(value);
+                    shard.publish();
+                } finally {
+                    shard.lock.unlock();
+                }
+                return true;
+            }
+        }
+    }
+
+    // 임의의 두 샤드 중 루트가 더 작은 샤드에서 요소를 꺼내는 poll 메소드
+    @Override
+    public E poll() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < shards.length; attempt++) {
+            Shard<E> first = shards[random.nextInt(shards.length)];
+            Shard<E> second = shards[random.nextInt(shards.length)];
+
+            E firstTop = first.top;
+            E secondTop = second.top;
+
+            Shard<E> shard;
+
+            if (firstTop == null && secondTop == null) continue;
+            else if (firstTop == null) shard = second;
+            else if (secondTop == null) shard = first;
+            else shard = compare(firstTop, secondTop) <= 0 ? first : second;
+
+            if (shard.lock.tryLock()) {
+                try {
+                    E item = shard.heap.poll();
+
+                    if (item != null) {
+                        shard.publish();
+                        return item;
+                    }
+                } finally {
+                    shard.lock.unlock();
+                }
+            }
+        }
+
+        // 임의 선택이 계속 실패한 경우 모든 샤드를 차례로 확인한다.
+        for (Shard<E> shard : shards) {
+            shard.lock.lock();
+            try {
+                E item = shard.heap.poll();
+
+                if (item != null) {
+                    shard.publish();
+                    return item;
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+
+        return null;
+    }
+
+    // 잠그지 않고 각 샤드의 루트 중 가장 작은 값을 확인하는 peek 메소드 ( 동시에 변경되는 경우 근삿값 )
+    @Override
+    public E peek() {
+
+        E best = null;
+
+        for (Shard<E> shard : shards) {
+            E top = shard.top;
+
+            if (top != null && (best == null || compare(top, best) < 0)) {
+                best = top;
+            }
+        }
+
+        return best;
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        int size = 0;
+
+        for (Shard<E> shard : shards) {
+            size += shard.size;
+        }
+
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Shard<E> shard : shards) {
+            if (shard.size != 0) return false;
+        }
+
+        return true;
+    }
+
+    public void clear() {
+        for (Shard<E> shard : shards) {
+            shard.lock.lock();
+            try {
+                shard.heap.clear();
+                shard.publish();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package queue;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+public class IndexedPriorityQueue<E> implements QueueInterface<E> {
+
+    /*
+        # 인덱스 우선순위 큐 ( Indexed Priority Queue )
+
+        PriorityQueue 는 요소가 배열의 어느 위치에 있는지 알 수 없기 때문에
+
+        contains 는 선형 탐색이 되고, 이미 들어간 요소의 우선순위를 바꾸려면 큐를 다시 만들어야 한다.
+
+        인덱스 우선순위 큐는 요소를 Handle 로 감싸서 넣고, siftUp / siftDown 으로 요소가 움직일 때마다
+
+        Handle 에 현재 배열 위치를 기록해둔다.
+
+        덕분에 Handle 만 가지고 있으면 위치를 바로 알 수 있어 다음 연산들을 빠르게 처리할 수 있다.
+
+        contains - O(1) / decreaseKey, increaseKey, remove - O(logN)
+
+        다익스트라 알고리즘처럼 큐에 들어간 요소의 우선순위가 바뀌는 경우에 사용한다.
+     */
+
+    // 큐에 들어간 요소와 그 요소의 배열 위치를 담는 Handle
+    public static final class Handle<E> {
+        private E value;
+        private int index; // 배열에서의 위치 ( 큐에 없으면 0 )
+
+        private Handle(E value) {
+            this.value = value;
+        }
+
+        public E value() {
+            return value;
+        }
+    }
+
+    private final Comparator<? super E> comparator;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int size;
+    private Handle<E>[] array;
+
+    public IndexedPriorityQueue() {
+        this(null);
+    }
+
+    public IndexedPriorityQueue(Comparator<? super E> comparator) {
+        this(DEFAULT_CAPACITY, comparator);
+    }
+
+    public IndexedPriorityQueue(int capacity) {
+        this(capacity, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public IndexedPriorityQueue(int capacity, Comparator<? super E> comparator) {
+        this.array = (Handle<E>[]) new Handle<?>[Math.max(2, capacity)];
+        this.size = 0;
+        this.comparator = comparator;
+    }
+
+    private int getParent(int index) {
+        return index / 2;
+    }
+
+    private int getLeftChild(int index) {
+        return index * 2;
+    }
+
+    private int getRightChild(int index) {
+        return index * 2 + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        Handle<E>[] newArray = (Handle<E>[]) new Handle<?>[newCapacity];
+
+        for (int i = 1; i <= size; i++) {
+            newArray[i] = array[i];
+        }
+
+        this.array = newArray;
+    }
+
+    @Override
+    public boolean offer(E value) {
+        add(value);
+        return true;
+    }
+
+    // 요소를 추가하고 우선순위 변경, 삭제에 사용할 Handle 을 반환하는 add 메소드
+    public Handle<E> add(E value) {
+
+        if (size + 1 == array.length) {
+            resize(array.length * 2);
+        }
+
+        Handle<E> handle = new Handle<>(value);
+
+        size++;
+        siftUp(size, handle);
+
+        return handle;
+    }
+
+    // 배열의 idx 위치에 handle 을 두고 위치를 기록하는 메소드
+    private void place(int idx, Handle<E> handle) {
+        array[idx] = handle;
+        handle.index = idx;
+    }
+
+    private void siftUp(int idx, Handle<E> target) {
+        if (comparator != null) {
+            siftUpComparator(idx, target, comparator);
+        } else {
+            siftUpComparable(idx, target);
+        }
+    }
+
+    // PriorityQueue 의 sift-up 과 같으며 노드가 움직일 때마다 Handle 의 위치를 갱신한다.
+    private void siftUpComparator(int idx, Handle<E> target, Comparator<? super E> comp) {
+
+        while (idx > 1) {
+            int parent = getParent(idx);
+            Handle<E> parentNode = array[parent];
+
+            if (comp.compare(target.value, parentNode.value) >= 0) {
+                break;
+            }
+
+            place(idx, parentNode);
+            idx = parent;
+        }
+
+        place(idx, target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUpComparable(int idx, Handle<E> target) {
+
+        Comparable<? super E> comp = (Comparable<? super E>) target.value;
+
+        while (idx > 1) {
+            int parent = getParent(idx);
+            Handle<E> parentNode = array[parent];
+
+            if (comp.compareTo(parentNode.value) >= 0) {
+                break;
+            }
+
+            place(idx, parentNode);
+            idx = parent;
+        }
+
+        place(idx, target);
+    }
+
+    private void siftDown(int idx, Handle<E> target) {
+        if (comparator != null) {
+            siftDownComparator(idx, target, comparator);
+        } else {
+            siftDownComparable(idx, target);
+        }
+    }
+
+    private void siftDownComparator(int idx, Handle<E> target, Comparator<? super E> comp) {
+
+        int parent = idx;
+        int child;
+
+        while ((child = getLeftChild(parent)) <= size) {
+
+            int right = getRightChild(parent);
+            Handle<E> childNode = array[child];
+
+            if (right <= size && comp.compare(childNode.value, array[right].value) > 0) {
+                child = right;
+                childNode = array[child];
+            }
+
+            if (comp.compare(target.value, childNode.value) <= 0) {
+                break;
+            }
+
+            place(parent, childNode);
+            parent = child;
+        }
+
+        place(parent, target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDownComparable(int idx, Handle<E> target) {
+
+        Comparable<? super E> comp = (Comparable<? super E>) target.value;
+
+        int parent = idx;
+        int child;
+
+        while ((child = getLeftChild(parent)) <= size) {
+
+            int right = getRightChild(parent);
+            Handle<E> childNode = array[child];
+
+            if (right <= size && ((Comparable<? super E>) childNode.value).compareTo(array[right].value) > 0) {
+                child = right;
+                childNode = array[child];
+            }
+
+            if (comp.compareTo(childNode.value) <= 0) {
+                break;
+            }
+
+            place(parent, childNode);
+            parent = child;
+        }
+
+        place(parent, target);
+    }
+
+    @Override
+    public E poll() {
+
+        if (size == 0) return null;
+
+        return remove();
+    }
+
+    public E remove() {
+        if (size == 0) throw new NoSuchElementException();
+
+        Handle<E> root = array[1];
+        removeAt(1);
+
+        return root.value;
+    }
+
+    // Handle 이 가리키는 요소를 삭제하는 remove 메소드 ( O(logN) )
+    public boolean remove(Handle<E> handle) {
+
+        if (!contains(handle)) return false;
+
+        removeAt(handle.index);
+        return true;
+    }
+
+    /*
+        idx 위치의 노드를 삭제하는 메소드
+
+        마지막 노드를 삭제된 위치로 옮긴 뒤, 부모보다 작으면 위로 그렇지 않으면 아래로 재배치한다.
+     */
+    private void removeAt(int idx) {
+
+        Handle<E> removed = array[idx];
+        Handle<E> last = array[size];
+
+        array[size] = null;
+        size--;
+        removed.index = 0;
+
+        if (idx <= size) {
+            siftDown(idx, last);
+
+            // 아래로 내려가지 않았다면 위로 올라가야 할 수도 있다.
+            if (array[idx] == last) {
+                siftUp(idx, last);
+            }
+        }
+
+        if (array.length > DEFAULT_CAPACITY && size < array.length / 4) {
+            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
+        }
+    }
+
+    // 요소의 우선순위를 높이는 ( 값을 작게 바꾸는 ) decreaseKey 메소드, 기존 값보다 큰 값이면 힙이 깨지므로 예외를 던진다.
+    public void decreaseKey(Handle<E> handle, E value) {
+        checkHandle(handle);
+
+        if (compare(value, handle.value) > 0) throw new IllegalArgumentException("기존 값보다 큰 값입니다.");
+
+        handle.value = value;
+        siftUp(handle.index, handle);
+    }
+
+    // 요소의 우선순위를 낮추는 ( 값을 크게 바꾸는 ) increaseKey 메소드, 기존 값보다 작은 값이면 힙이 깨지므로 예외를 던진다.
+    public void increaseKey(Handle<E> handle, E value) {
+        checkHandle(handle);
+
+        if (compare(value, handle.value) < 0) throw new IllegalArgumentException("기존 값보다 작은 값입니다.");
+
+        handle.value = value;
+        siftDown(handle.index, handle);
+    }
+
+    // 새로운 값이 기존 값보다 큰지 작은지 모를 때 사용하는 update 메소드
+    public void update(Handle<E> handle, E value) {
+        checkHandle(handle);
+
+        int idx = handle.index;
+        handle.value = value;
+
+        siftDown(idx, handle);
+        if (array[idx] == handle) {
+            siftUp(idx, handle);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E a, E b) {
+        if (comparator != null) return comparator.compare(a, b);
+
+        return ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    private void checkHandle(Handle<E> handle) {
+        if (!contains(handle)) throw new NoSuchElementException();
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public E peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return array[1].value;
+    }
+
+    public Handle<E> peekHandle() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return array[1];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Handle 이 기록하고 있는 위치만 확인하면 되므로 O(1)
+    public boolean contains(Handle<E> handle) {
+        int idx = handle.index;
+        return idx >= 1 && idx <= size && array[idx] == handle;
+    }
+
+    public boolean contains(Object value) {
+        for (int i = 1; i <= size; i++) {
+            if (array[i].value.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        for (int i = 1; i <= size; i++) {
+            array[i].index = 0;
+            array[i] = null;
+        }
+
+        size = 0;
+    }
+}
@@ -1,8 +1,12 @@
 package queue;
 
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
-public class LinkedLIstQueue<E> implements QueueInterface<E> {
+public class LinkedLIstQueue<E> implements QueueInterface<E>, Iterable<E> {
 
     // Queue 구현에 쓰이는 Node
     private class Node<E> {
@@ -100,6 +104,86 @@ public class LinkedLIstQueue<E> implements QueueInterface<E> {
         return element;
     }
 
+    // 새로운 노드들을 먼저 서로 연결해둔 뒤 기존 tail 에 한 번만 이어붙이는 offerAll 메소드
+    @Override
+    public int offerAll(E[] values, int from, int to) {
+
+        if (from < 0 || to > values.length || from > to) throw new IndexOutOfBoundsException();
+
+        if (from == to) return 0;
+
+        Node<E> first = new Node<>(values[from]);
+        Node<E> last = first;
+
+        for (int i = from + 1; i < to; i++) {
+            last.next = new Node<>(values[i]);
+            last = last.next;
+        }
+
+        if (size == 0) head = first;
+        else tail.next = first;
+
+        tail = last;
+        size += to - from;
+
+        return to - from;
+    }
+
+    // head 부터 최대 maxElements 개의 노드를 끊어내며 dest 배열에 담는 drainTo 메소드
+    @Override
+    public int drainTo(E[] dest, int offset, int maxElements) {
+
+        if (offset < 0 || offset > dest.length) throw new IndexOutOfBoundsException();
+
+        int count = Math.min(Math.min(maxElements, size), dest.length - offset);
+
+        if (count <= 0) return 0;
+
+        for (int i = 0; i < count; i++) {
+            Node<E> next = head.next;
+
+            dest[offset + i] = head.data;
+            head.data = null;
+            head.next = null;
+
+            head = next;
+        }
+
+        size -= count;
+
+        if (size == 0) tail = null;
+
+        return count;
+    }
+
+    @Override
+    public int drainTo(Consumer<? super E> consumer, int maxElements) {
+
+        int count = Math.min(maxElements, size);
+        int drained = 0;
+
+        // consumer 에서 예외가 발생해도 이미 넘긴 노드까지는 큐에서 제거된 상태로 남긴다.
+        try {
+            while (drained < count) {
+                Node<E> next = head.next;
+                E item = head.data;
+
+                head.data = null;
+                head.next = null;
+                head = next;
+
+                size--;
+                drained++;
+
+                consumer.accept(item);
+            }
+        } finally {
+            if (size == 0) tail = null;
+        }
+
+        return drained;
+    }
+
     // 이하 설명 생략 
     public int size() {
         return size;
@@ -130,4 +214,32 @@ public class LinkedLIstQueue<E> implements QueueInterface<E> {
         size = 0;
         head = tail = null;
     }
+
+    // head 부터 노드를 차례대로 따라가는 반복자 ( 큐에서 요소를 꺼내지 않는다. )
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> next = head;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (next == null) throw new NoSuchElementException();
+
+                E data = next.data;
+                next = next.next;
+                return data;
+            }
+        };
+    }
+
+    // 노드를 따라가는 반복자에서 요소를 묶음 ( batch ) 단위로 꺼내어 나누는 Spliterator
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
 }
@@ -0,0 +1,410 @@
+package queue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+public class MappedJournalQueue implements QueueInterface<byte[]>, Closeable {
+
+    /*
+        # 메모리 매핑된 파일로 만든 영속 큐 ( Journal Queue )
+
+        프로세스가 재시작되어도 남아있는 FIFO 큐이다. 별도의 브로커 없이 디렉토리 하나에 모든 내용을 기록한다.
+
+        - 레코드는 [ 길이 ( int ) | 내용 ] 형식으로 세그먼트 파일의 끝에 이어서 기록한다.
+        - 세그먼트 파일은 segmentSize 크기로 고정되어 있고, 다음 레코드가 들어가지 않으면 END_OF_SEGMENT 를 기록한 뒤 다음 파일로 넘어간다.
+        - 읽기 / 쓰기 위치는 작은 헤더 파일 ( journal.idx ) 에 매핑하여 기록한다.
+        - 모두 읽은 세그먼트 파일은 삭제한다.
+
+        헤더의 읽기 / 쓰기 위치는 각각 ( 세그먼트 번호 << 32 | 세그먼트 안의 위치 ) 로 합친 8 바이트 하나로 한 번에 기록한다.
+
+        세그먼트 번호와 위치를 따로 기록하면 그 사이에 프로세스가 죽었을 때 ( 이전 세그먼트, 0 ) 처럼 맞지 않는 위치가 남아
+
+        다시 열었을 때 읽지 않은 레코드를 덮어쓰거나 이미 읽은 세그먼트를 다시 읽게 되기 때문이다.
+
+        남아있는 레코드 개수는 헤더에 기록하지 않고, 다시 열 때 읽기 위치부터 쓰기 위치까지 레코드를 따라가며 센다.
+
+        쓰기는 항상 레코드 내용을 먼저 기록한 뒤 헤더의 쓰기 위치를 옮기므로, 프로세스가 죽는 경우에는 ( 운영체제의 페이지 캐시에 남아있으므로 )
+
+        헤더가 항상 기록이 끝난 레코드만 가리킨다. 운영체제가 멈추는 경우에는 마지막 force 까지의 내용만 보장하며,
+
+        force 사이에 운영체제가 매핑된 헤더를 세그먼트보다 먼저 디스크에 쓸 수 있으므로 마지막 force 이후의 레코드는 잃거나 내용이 깨질 수 있다.
+
+        force 하는 시점은 FsyncPolicy 로 정한다.
+
+        pollBuffer / peekBuffer 는 매핑된 세그먼트를 그대로 가리키는 읽기 전용 ByteBuffer 를 반환하므로 Java 힙으로 복사하지 않는다.
+
+        여러 스레드가 동시에 사용할 수 없다.
+     */
+
+    // 언제 디스크에 기록 ( force ) 할지 정하는 정책
+    public static final class FsyncPolicy {
+
+        public static final FsyncPolicy NEVER = new FsyncPolicy(0, 0); // 운영체제에 맡긴다. ( close 할 때만 기록 )
+
+        private final int records;
+        private final long nanos;
+
+        private FsyncPolicy(int records, long nanos) {
+            this.records = records;
+            this.nanos = nanos;
+        }
+
+        // n 개의 레코드를 추가할 때마다 기록한다.
+        public static FsyncPolicy everyRecords(int n) {
+            if (n < 1) throw new IllegalArgumentException("n 은 1 이상이어야 합니다.");
+            return new FsyncPolicy(n, 0);
+        }
+
+        // 마지막으로 기록한 뒤 millis 이상 지난 다음 레코드를 추가할 때 기록한다. ( 별도의 스레드를 사용하지 않는다. )
+        public static FsyncPolicy everyMillis(long millis) {
+            if (millis < 1) throw new IllegalArgumentException("millis 는 1 이상이어야 합니다.");
+            return new FsyncPolicy(0, millis * 1_000_000L);
+        }
+    }
+
+    private static final long MAGIC = 0x4A6F75726E616C32L; // 파일 형식을 확인하기 위한 매직 넘버
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024; // 기본 세그먼트 크기 ( 64MB )
+    private static final int END_OF_SEGMENT = -1; // 이 세그먼트에 더 이상 레코드가 없음을 나타내는 길이
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    // 헤더 파일의 구성 ( 바이트 위치 )
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_SEGMENT_SIZE = 8;
+    private static final int HEADER_WRITE_CURSOR = 16; // 쓰기 ( 세그먼트, 위치 )
+    private static final int HEADER_READ_CURSOR = 24; // 읽기 ( 세그먼트, 위치 )
+    private static final int HEADER_SIZE = 32;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+
+    private final FileChannel headerChannel;
+    private final MappedByteBuffer header;
+
+    private long writeSegment; // 쓰고 있는 세그먼트 번호
+    private int writePosition; // 쓰고 있는 세그먼트에서 다음 레코드를 기록할 위치
+    private MappedByteBuffer writeBuffer;
+
+    private long readSegment; // 읽고 있는 세그먼트 번호
+    private int readPosition; // 읽고 있는 세그먼트에서 다음 레코드의 위치
+    private MappedByteBuffer readBuffer;
+
+    private long count; // 남아있는 레코드 개수 ( 헤더에 기록하지 않고 열 때 다시 센다. )
+
+    private int unsyncedRecords; // 마지막 force 이후 추가한 레코드 개수
+    private long lastSync = System.nanoTime();
+    private boolean closed;
+
+    public MappedJournalQueue(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, FsyncPolicy.NEVER);
+    }
+
+    // 디렉토리에 저장된 큐를 열고, 비어있으면 새로운 큐를 만드는 생성자 ( 기존 큐는 저장된 segmentSize 를 사용한다. )
+    public MappedJournalQueue(Path directory, int segmentSize, FsyncPolicy fsyncPolicy) throws IOException {
+
+        if (segmentSize < 64) throw new IllegalArgumentException("segmentSize 는 64 이상이어야 합니다.");
+
+        Files.createDirectories(directory);
+
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.headerChannel = FileChannel.open(directory.resolve("journal.idx"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            boolean created = headerChannel.size() == 0;
+
+            this.header = headerChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+            if (created) {
+                header.putLong(HEADER_SEGMENT_SIZE, segmentSize);
+                header.putLong(HEADER_MAGIC, MAGIC);
+            } else if (header.getLong(HEADER_MAGIC) != MAGIC) {
+                throw new IOException("MappedJournalQueue 디렉토리가 아닙니다 : " + directory);
+            }
+
+            // 기존 큐는 인자로 받은 segmentSize 대신 헤더에 저장된 크기를 사용하므로 저장된 크기를 확인한다.
+            long storedSegmentSize = header.getLong(HEADER_SEGMENT_SIZE);
+
+            if (storedSegmentSize < 64 || storedSegmentSize > Integer.MAX_VALUE) {
+                throw new IOException("헤더가 손상되었습니다 ( segmentSize : " + storedSegmentSize + " ) : " + directory);
+            }
+
+            this.segmentSize = (int) storedSegmentSize;
+
+            long writeCursor = header.getLong(HEADER_WRITE_CURSOR);
+            long readCursor = header.getLong(HEADER_READ_CURSOR);
+
+            this.writeSegment = segmentOf(writeCursor);
+            this.writePosition = positionOf(writeCursor);
+            this.readSegment = segmentOf(readCursor);
+            this.readPosition = positionOf(readCursor);
+
+            if (writePosition < 0 || writePosition > this.segmentSize
+                    || readPosition < 0 || readPosition > this.segmentSize || readCursor > writeCursor) {
+                throw new IOException("헤더가 손상되었습니다 : " + directory);
+            }
+
+            this.writeBuffer = mapSegment(writeSegment);
+            this.readBuffer = readSegment == writeSegment ? writeBuffer : mapSegment(readSegment);
+            this.count = countRecords();
+        } catch (IOException | RuntimeException e) {
+            headerChannel.close();
+            throw e;
+        }
+    }
+
+    // 세그먼트 번호와 위치를 한 번에 기록할 수 있도록 8 바이트 하나로 합치는 메소드 ( 세그먼트 번호가 같으면 위치 순서대로 커진다. )
+    private static long cursor(long segment, int position) {
+        return segment << 32 | position;
+    }
+
+    private static long segmentOf(long cursor) {
+        return cursor >>> 32;
+    }
+
+    private static int positionOf(long cursor) {
+        return (int) cursor;
+    }
+
+    // 읽기 위치부터 쓰기 위치까지 레코드를 따라가며 남아있는 레코드 개수를 세는 메소드
+    private long countRecords() throws IOException {
+        long n = 0;
+        long segment = readSegment;
+        int position = readPosition;
+        MappedByteBuffer buffer = readBuffer;
+
+        while (segment != writeSegment || position != writePosition) {
+            int length = position + LENGTH_SIZE <= segmentSize ? buffer.getInt(position) : END_OF_SEGMENT;
+
+            if (length == END_OF_SEGMENT) {
+                if (segment == writeSegment) throw new IOException("세그먼트가 손상되었습니다 : " + segmentPath(segment));
+
+                segment++;
+                position = 0;
+                buffer = segment == writeSegment ? writeBuffer : mapSegment(segment);
+                continue;
+            }
+
+            position += LENGTH_SIZE + length;
+
+            if (length < 0 || position > segmentSize || (segment == writeSegment && position > writePosition)) {
+                throw new IOException("세그먼트가 손상되었습니다 : " + segmentPath(segment));
+            }
+
+            n++;
+        }
+
+        return n;
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d.seg", segment));
+    }
+
+    // 세그먼트 파일 전체를 매핑하는 메소드 ( 파일이 없으면 segmentSize 크기로 만든다. ), 매핑은 채널을 닫아도 유지된다.
+    private MappedByteBuffer mapSegment(long segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    @Override
+    public boolean offer(byte[] value) {
+        return offer(ByteBuffer.wrap(value));
+    }
+
+    // value 의 position 부터 limit 까지를 하나의 레코드로 추가하는 offer 메소드 ( value 의 position 은 바뀌지 않는다. )
+    public boolean offer(ByteBuffer value) {
+
+        ensureOpen();
+
+        int length = value.remaining();
+
+        if (length > segmentSize - LENGTH_SIZE) {
+            throw new IllegalArgumentException("레코드가 세그먼트보다 큽니다 : " + length);
+        }
+
+        // 남은 공간에 들어가지 않으면 END_OF_SEGMENT 를 기록하고 다음 세그먼트로 넘어간다.
+        if (writePosition + LENGTH_SIZE + length > segmentSize) rollSegment();
+
+        writeBuffer.put(writePosition + LENGTH_SIZE, value, value.position(), length);
+        writeBuffer.putInt(writePosition, length);
+
+        // 레코드를 모두 기록한 뒤에 헤더의 쓰기 위치를 옮긴다.
+        writePosition += LENGTH_SIZE + length;
+        count++;
+
+        header.putLong(HEADER_WRITE_CURSOR, cursor(writeSegment, writePosition));
+
+        unsyncedRecords++;
+        maybeSync();
+
+        return true;
+    }
+
+    private void rollSegment() {
+        if (writePosition + LENGTH_SIZE <= segmentSize) writeBuffer.putInt(writePosition, END_OF_SEGMENT);
+
+        // 이전 세그먼트는 다시 쓰지 않으므로 넘어가기 전에 기록해둔다.
+        if (fsyncPolicy != FsyncPolicy.NEVER) writeBuffer.force();
+
+        try {
+            writeBuffer = mapSegment(writeSegment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        writeSegment++;
+        writePosition = 0;
+
+        header.putLong(HEADER_WRITE_CURSOR, cursor(writeSegment, 0));
+    }
+
+    private void maybeSync() {
+        if (fsyncPolicy.records > 0 && unsyncedRecords >= fsyncPolicy.records) {
+            force();
+        } else if (fsyncPolicy.nanos > 0 && System.nanoTime() - lastSync >= fsyncPolicy.nanos) {
+            force();
+        }
+    }
+
+    @Override
+    public byte[] poll() {
+        ByteBuffer record = pollBuffer();
+
+        if (record == null) return null;
+
+        byte[] value = new byte[record.remaining()];
+        record.get(value);
+
+        return value;
+    }
+
+    // 가장 먼저 추가된 레코드를 삭제하고, 매핑된 세그먼트를 그대로 가리키는 읽기 전용 ByteBuffer 로 반환하는 메소드
+    public ByteBuffer pollBuffer() {
+        ByteBuffer record = peekBuffer();
+
+        if (record == null) return null;
+
+        readPosition += LENGTH_SIZE + record.remaining();
+        count--;
+
+        header.putLong(HEADER_READ_CURSOR, cursor(readSegment, readPosition));
+
+        return record;
+    }
+
+    @Override
+    public byte[] peek() {
+        ByteBuffer record = peekBuffer();
+
+        if (record == null) return null;
+
+        byte[] value = new byte[record.remaining()];
+        record.get(value);
+
+        return value;
+    }
+
+    // 가장 먼저 추가된 레코드를 복사하지 않고 확인하는 메소드, 비어있으면 null 을 반환한다.
+    public ByteBuffer peekBuffer() {
+
+        ensureOpen();
+
+        while (true) {
+            if (readSegment == writeSegment && readPosition == writePosition) return null;
+
+            int length = readPosition + LENGTH_SIZE <= segmentSize ? readBuffer.getInt(readPosition) : END_OF_SEGMENT;
+
+            if (length != END_OF_SEGMENT) {
+                return readBuffer.slice(readPosition + LENGTH_SIZE, length).asReadOnlyBuffer();
+            }
+
+            nextReadSegment();
+        }
+    }
+
+    // 모두 읽은 세그먼트를 삭제하고 다음 세그먼트로 넘어가는 메소드
+    private void nextReadSegment() {
+        long finished = readSegment;
+
+        readSegment++;
+        readPosition = 0;
+
+        try {
+            readBuffer = readSegment == writeSegment ? writeBuffer : mapSegment(readSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 헤더가 새로운 세그먼트를 가리키도록 기록한 뒤에 파일을 삭제한다. ( 이미 반환한 ByteBuffer 의 매핑은 삭제 후에도 유효하다. )
+        header.putLong(HEADER_READ_CURSOR, cursor(readSegment, 0));
+
+        try {
+            Files.deleteIfExists(segmentPath(finished));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public byte[] remove() {
+
+        byte[] removed = poll();
+
+        if (removed == null) throw new NoSuchElementException();
+
+        return removed;
+    }
+
+    public byte[] element() {
+
+        byte[] element = peek();
+
+        if (element == null) throw new NoSuchElementException();
+
+        return element;
+    }
+
+    // 지금까지 추가한 레코드와 읽기 / 쓰기 위치를 디스크에 기록하는 force 메소드
+    // 세그먼트를 먼저 기록한 뒤 헤더를 기록하므로 force 가 끝나면 헤더는 디스크에 기록된 레코드만 가리킨다.
+    public void force() {
+        writeBuffer.force();
+        header.force();
+
+        unsyncedRecords = 0;
+        lastSync = System.nanoTime();
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("닫힌 큐입니다.");
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (closed) return;
+
+        force();
+        closed = true;
+        headerChannel.close();
+    }
+}
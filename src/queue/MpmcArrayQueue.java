@@ -0,0 +1,189 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/*
+    false sharing 을 막기 위한 패딩 클래스들
+
+    JVM 은 한 클래스 안의 필드 순서를 마음대로 바꿀 수 있지만 상위 클래스의 필드는 항상 하위 클래스의 필드보다 앞에 둔다.
+
+    그래서 상속을 이용해 [ 패딩 | tail | 패딩 | head | 패딩 ] 순서로 배치하여
+
+    생산자가 바꾸는 tail 과 소비자가 바꾸는 head 가 같은 캐시 라인 ( 64 바이트 ) 에 놓이지 않도록 한다.
+ */
+abstract class MpmcArrayQueuePad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class MpmcArrayQueueTail extends MpmcArrayQueuePad0 {
+    volatile long tail; // 다음에 추가할 위치 ( 계속 증가하는 값 )
+}
+
+abstract class MpmcArrayQueuePad1 extends MpmcArrayQueueTail {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpmcArrayQueueHead extends MpmcArrayQueuePad1 {
+    volatile long head; // 다음에 꺼낼 위치 ( 계속 증가하는 값 )
+}
+
+abstract class MpmcArrayQueuePad2 extends MpmcArrayQueueHead {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
+
+public class MpmcArrayQueue<E> extends MpmcArrayQueuePad2 implements QueueInterface<E> {
+
+    /*
+        # 락을 사용하지 않는 다중 생산자 / 다중 소비자 원형 큐 ( MPMC Ring Buffer )
+
+        ArrayQueue 와 같은 원형 배열이지만 여러 스레드가 동시에 offer / poll 할 수 있다.
+
+        크기는 고정이며 2 의 거듭제곱으로 맞춰서 % 대신 & mask 로 위치를 구한다.
+
+        Dmitry Vyukov 의 bounded MPMC queue 방식으로 각 칸마다 sequence 번호를 둔다.
+
+        - sequence == pos       : 비어있는 칸, pos 번째 offer 가 사용할 수 있다.
+        - sequence == pos + 1   : pos 번째 offer 가 채운 칸, pos 번째 poll 이 꺼낼 수 있다.
+        - poll 이 꺼낸 뒤에는 sequence 를 pos + capacity 로 바꿔서 한 바퀴 뒤의 offer 가 사용하게 한다.
+
+        생산자끼리는 tail 을, 소비자끼리는 head 를 CAS 로 차지하고 그 칸의 sequence 로만 서로 소통하기 때문에
+
+        생산자와 소비자가 서로를 기다리지 않는다.
+
+        가득 차 있으면 offer 는 false 를, 비어있으면 poll 은 null 을 반환한다.
+     */
+
+    private static final VarHandle TAIL;
+    private static final VarHandle HEAD;
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(MpmcArrayQueueTail.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(MpmcArrayQueueHead.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] array; // 요소를 담는 배열
+    private final long[] sequences; // 칸마다의 sequence 번호
+    private final int mask; // capacity - 1
+
+    public MpmcArrayQueue(int capacity) {
+
+        if (capacity < 2) throw new IllegalArgumentException("capacity 는 2 이상이어야 합니다.");
+        if (capacity > (1 << 30)) throw new IllegalArgumentException("capacity 가 너무 큽니다.");
+
+        // 2 의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.array = new Object[size];
+        this.sequences = new long[size];
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    @Override
+    public boolean offer(E item) {
+
+        if (item == null) throw new NullPointerException();
+
+        long pos = tail;
+
+        while (true) {
+            int idx = (int) pos & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, idx);
+            long diff = sequence - pos;
+
+            if (diff == 0) {
+                // 비어있는 칸이므로 tail 을 차지하는 데 성공하면 채워 넣고 sequence 로 공개한다.
+                if (TAIL.compareAndSet(this, pos, pos + 1)) {
+                    array[idx] = item;
+                    SEQUENCE.setRelease(sequences, idx, pos + 1);
+                    return true;
+                }
+                pos = tail;
+            } else if (diff < 0) {
+                // 한 바퀴 전의 요소가 아직 꺼내지지 않았다. ( 가득 참 )
+                return false;
+            } else {
+                // 다른 생산자가 먼저 차지했으므로 tail 을 다시 읽는다.
+                pos = tail;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+
+        long pos = head;
+
+        while (true) {
+            int idx = (int) pos & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, idx);
+            long diff = sequence - (pos + 1);
+
+            if (diff == 0) {
+                if (HEAD.compareAndSet(this, pos, pos + 1)) {
+                    E item = (E) array[idx];
+                    array[idx] = null;
+
+                    // 한 바퀴 뒤의 offer 가 이 칸을 사용할 수 있도록 공개한다.
+                    SEQUENCE.setRelease(sequences, idx, pos + mask + 1);
+                    return item;
+                }
+                pos = head;
+            } else if (diff < 0) {
+                // 아직 채워지지 않은 칸이다. ( 비어있음 )
+                return null;
+            } else {
+                pos = head;
+            }
+        }
+    }
+
+    // 다른 스레드가 동시에 poll 할 수 있으므로 확인한 시점의 맨 앞 요소를 반환한다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+
+        while (true) {
+            long pos = head;
+            int idx = (int) pos & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, idx);
+
+            if (sequence - (pos + 1) < 0) return null;
+
+            E item = (E) array[idx];
+
+            // 읽는 사이에 head 가 바뀌지 않았다면 올바른 요소이다.
+            if (item != null && head == pos) return item;
+        }
+    }
+
+    // 이하 설명 생략
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // 동시에 변경되는 중에는 근삿값이다.
+    public int size() {
+        long h = head;
+        long t = tail;
+        long size = t - h;
+
+        if (size < 0) return 0;
+        return (int) Math.min(size, mask + 1);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -1,7 +1,11 @@
 package queue;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 public class PriorityQueue<E> implements QueueInterface<E> {
 
@@ -19,22 +23,25 @@ public class PriorityQueue<E> implements QueueInterface<E> {
         우선순위 큐는 중점이 되는 것이 최솟값, 최댓값이 아니라 우선순위에 중점을 준다는 점에서 차이를 보인다.
 
         구현하는 내용은 변수명이나 메소드명 등이 다를 뿐 기본적으로 힙과 대동소이하기 때문에 설명은 생략한다.
+
+        자식 수 ( arity ) 를 지정하는 d-ary 구성 역시 Heap 과 동일하다.
      */
 
     private final Comparator<? super E> comparator;
     private static final int DEFAULT_CAPACITY = 10;
+    private static final int DEFAULT_ARITY = 2;
+
+    private final int arity;
 
     private int size;
     private Object[] array;
 
     public PriorityQueue() {
-        this(null);
+        this((Comparator<? super E>) null);
     }
 
     public PriorityQueue(Comparator<? super E> comparator) {
-        this.array = new Object[DEFAULT_CAPACITY];
-        this.size = 0;
-        this.comparator = comparator;
+        this(DEFAULT_CAPACITY, DEFAULT_ARITY, comparator);
     }
 
     public PriorityQueue(int capacity) {
@@ -42,21 +49,51 @@ public class PriorityQueue<E> implements QueueInterface<E> {
     }
 
     public PriorityQueue(int capacity, Comparator<? super E> comparator) {
+        this(capacity, DEFAULT_ARITY, comparator);
+    }
+
+    public PriorityQueue(int capacity, int arity) {
+        this(capacity, arity, null);
+    }
+
+    public PriorityQueue(int capacity, int arity, Comparator<? super E> comparator) {
+        if (arity < 2) throw new IllegalArgumentException("arity 는 2 이상이어야 합니다.");
+
         this.array = new Object[capacity];
         this.size = 0;
+        this.arity = arity;
         this.comparator = comparator;
     }
 
+    // 배열이나 컬렉션의 요소들을 한 번에 담아 heapify 하는 생성자 ( O(N) )
+    public PriorityQueue(E[] values) {
+        this(values, null);
+    }
+
+    public PriorityQueue(E[] values, Comparator<? super E> comparator) {
+        this(Math.max(DEFAULT_CAPACITY, values.length + 2), DEFAULT_ARITY, comparator);
+        addAll(values);
+    }
+
+    public PriorityQueue(Collection<? extends E> values) {
+        this(values, null);
+    }
+
+    public PriorityQueue(Collection<? extends E> values, Comparator<? super E> comparator) {
+        this(Math.max(DEFAULT_CAPACITY, values.size() + 2), DEFAULT_ARITY, comparator);
+        addAll(values);
+    }
+
     private int getParent(int index) {
-        return index / 2;
+        return (index - 2) / arity + 1;
     }
 
     private int getLeftChild(int index) {
-        return index * 2;
+        return arity * (index - 1) + 2;
     }
 
     private int getRightChild(int index) {
-        return index * 2 + 1;
+        return arity * index + 1;
     }
 
     private void resize(int newCapacity) {
@@ -82,6 +119,74 @@ public class PriorityQueue<E> implements QueueInterface<E> {
         return true;
     }
 
+    // 배열의 크기를 한 번만 늘리고 요소들을 이어 붙인 뒤 재배치하는 addAll ( Heap 과 동일 )
+    public void addAll(E[] values) {
+        offerAll(values, 0, values.length);
+    }
+
+    // values[from, to) 를 addAll 과 같은 방법으로 한 번에 추가하는 offerAll 메소드
+    @Override
+    public int offerAll(E[] values, int from, int to) {
+
+        if (from < 0 || to > values.length || from > to) throw new IndexOutOfBoundsException();
+
+        int count = to - from;
+
+        if (count == 0) return 0;
+
+        ensureCapacity(size + count);
+
+        int oldSize = size;
+        System.arraycopy(values, from, array, size + 1, count);
+        size += count;
+
+        rebuild(oldSize);
+
+        return count;
+    }
+
+    public void addAll(Collection<? extends E> values) {
+
+        if (values.isEmpty()) return;
+
+        ensureCapacity(size + values.size());
+
+        int oldSize = size;
+        for (E value : values) {
+            array[++size] = value;
+        }
+
+        rebuild(oldSize);
+    }
+
+    private void ensureCapacity(int count) {
+        if (count + 1 >= array.length) {
+            resize(Math.max(array.length * 2, count + 2));
+        }
+    }
+
+    // 새로 붙인 요소가 기존 요소보다 많으면 전체를 heapify, 아니면 하나씩 sift-up
+    @SuppressWarnings("unchecked")
+    private void rebuild(int oldSize) {
+
+        if (size - oldSize > oldSize) {
+            heapify();
+            return;
+        }
+
+        for (int i = oldSize + 1; i <= size; i++) {
+            siftUp(i, (E) array[i]);
+        }
+    }
+
+    // 마지막 노드의 부모부터 루트까지 거꾸로 sift-down 하는 Floyd 의 heapify ( O(N) )
+    @SuppressWarnings("unchecked")
+    private void heapify() {
+        for (int i = getParent(size); i >= 1; i--) {
+            siftDown(i, (E) array[i]);
+        }
+    }
+
     private void siftUp(int idx, E target) {
         /*
          * comparator가 존재한다면 comparator을 넘겨주고,
@@ -152,16 +257,89 @@ public class PriorityQueue<E> implements QueueInterface<E> {
     public E remove() {
         if (array[1] == null) throw new NoSuchElementException();
 
+        E result = removeRoot();
+
+        /*
+         * 용적 사이즈가 최소 용적보다는 크면서 요소의 개수가 전체 용적의 1/4 미만일 경우
+         * 용적을 반으로 줄임 (단, 최소용적보단 커야 함)
+         */
+        if (array.length > DEFAULT_CAPACITY && size < array.length / 4) {
+            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
+        }
+
+        return result;
+    }
+
+    // 용적은 그대로 두고 루트를 삭제한 뒤 마지막 요소를 sift-down 하는 메소드
+    @SuppressWarnings("unchecked")
+    private E removeRoot() {
         E result = (E) array[1];
         E target = (E) array[size];
 
         array[size] = null;
         size--;
+
+        // 마지막 남은 요소를 삭제한 경우 재배치할 요소가 없다.
+        if (size == 0) {
+            array[1] = null;
+            return result;
+        }
+
         siftDown(1, target);
 
         return result;
     }
 
+    // 우선순위 순서대로 최대 maxElements 개를 꺼내 dest 배열에 담는 drainTo 메소드, 용적은 마지막에 한 번만 줄인다.
+    @Override
+    public int drainTo(E[] dest, int offset, int maxElements) {
+
+        if (offset < 0 || offset > dest.length) throw new IndexOutOfBoundsException();
+
+        int count = Math.min(Math.min(maxElements, size), dest.length - offset);
+
+        if (count <= 0) return 0;
+
+        for (int i = 0; i < count; i++) {
+            dest[offset + i] = removeRoot();
+        }
+
+        shrink();
+
+        return count;
+    }
+
+    @Override
+    public int drainTo(Consumer<? super E> consumer, int maxElements) {
+
+        int count = Math.min(maxElements, size);
+        int drained = 0;
+
+        try {
+            while (drained < count) {
+                E item = removeRoot();
+                drained++;
+
+                consumer.accept(item);
+            }
+        } finally {
+            shrink();
+        }
+
+        return drained;
+    }
+
+    // 여러 요소를 꺼낸 뒤 줄일 용적을 구해 한 번만 resize 하는 메소드
+    private void shrink() {
+        int newCapacity = array.length;
+
+        while (newCapacity > DEFAULT_CAPACITY && size < newCapacity / 4) {
+            newCapacity = Math.max(DEFAULT_CAPACITY, newCapacity / 2);
+        }
+
+        if (newCapacity != array.length) resize(newCapacity);
+    }
+
     private void siftDown(int idx, E target) {
         if (comparator != null) {
             siftDownComparator(idx, target, comparator);
@@ -182,18 +360,20 @@ public class PriorityQueue<E> implements QueueInterface<E> {
         // 왼쪽 자식 노드의 인덱스가 요소의 개수보다 작을 때 까지 반복
         while ((child = getLeftChild(parent)) <= size) {
 
-            int right = getRightChild(parent);    // 오른쪽 자식 인덱스
+            int right = Math.min(getRightChild(parent), size);    // 마지막 자식 인덱스
             Object childVal = array[child];    // 왼쪽 자식의 값 (교환될 요소)
 
             /*
-             * 오른쪽 자식 인덱스가 size를 넘지 않으면서
-             * 왼쪽 자식이 오른쪽 자식보다 큰 경우
-             * 재배치 할 노드는 작은 자식과 비교해야 하므로 child와 childVal을
-             * 오른쪽 자식으로 바꾸어 준다.
+             * size를 넘지 않는 나머지 자식들 중
+             * 왼쪽 자식보다 작은 자식이 있는 경우
+             * 재배치 할 노드는 가장 작은 자식과 비교해야 하므로 child와 childVal을
+             * 그 자식으로 바꾸어 준다.
              */
-            if (right <= size && comp.compare((E) childVal, (E) array[right]) > 0) {
-                child = right;
-                childVal = array[child];
+            for (int i = child + 1; i <= right; i++) {
+                if (comp.compare((E) childVal, (E) array[i]) > 0) {
+                    child = i;
+                    childVal = array[child];
+                }
             }
 
             // 재배치 할 노드가 자식 노드보다 작을 경우 반복문을 종료
@@ -212,34 +392,26 @@ public class PriorityQueue<E> implements QueueInterface<E> {
 
         // 최종적으로 재배치 되는 위치에 타겟이 된 값을 넣어준다.
         array[parent] = target;
-
-        /*
-         * 용적 사이즈가 최소 용적보다는 크면서 요소의 개수가 전체 용적의 1/4 미만일 경우
-         * 용적을 반으로 줄임 (단, 최소용적보단 커야 함)
-         */
-        if (array.length > DEFAULT_CAPACITY && size < array.length / 4) {
-            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
-        }
-
     }
 
     private void siftDownComparable(int idx, E target) {
         Comparable<? super E> comp = (Comparable<? super E>) target;
 
         array[idx] = null;
-        size--;
 
         int parent = idx;
         int child;
 
         while ((child = getLeftChild(parent)) <= size) {
-            int right = getRightChild(parent);
+            int right = Math.min(getRightChild(parent), size);
 
             Object childVal = array[child];
 
-            if (right <= size && ((Comparable<? super E>) childVal).compareTo((E) array[right]) > 0) {
-                child = right;
-                childVal = array[child];
+            for (int i = child + 1; i <= right; i++) {
+                if (((Comparable<? super E>) childVal).compareTo((E) array[i]) > 0) {
+                    child = i;
+                    childVal = array[child];
+                }
             }
 
             if (comp.compareTo((E) childVal) <= 0) {
@@ -252,10 +424,6 @@ public class PriorityQueue<E> implements QueueInterface<E> {
         }
 
         array[parent] = comp;
-
-        if (array.length > DEFAULT_CAPACITY && size < array.length / 4) {
-            resize(Math.max(DEFAULT_CAPACITY, array.length / 2));
-        }
     }
 
     public int size() {
@@ -291,4 +459,10 @@ public class PriorityQueue<E> implements QueueInterface<E> {
 
         size = 0;
     }
+
+    // 배열의 [1, size] 구간을 반으로 나누는 Spliterator ( Heap 의 spliterator 와 동일 )
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, 1, size + 1, 0);
+    }
 }
@@ -1,5 +1,10 @@
 package queue;
 
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface QueueInterface < E > {
 
    /*
@@ -38,5 +43,86 @@ public interface QueueInterface < E > {
         마찬가지로 remove 메소드는 구현하지 않음
      */
 
+    default int drainTo(Consumer<? super E> consumer, int maxElements) {
+        int count = 0;
+        E item;
+
+        while (count < maxElements && (item = poll()) != null) {
+            consumer.accept(item);
+            count++;
+        }
+
+        return count;
+    }
+
+    /*
+        최대 maxElements 개의 데이터를 순서대로 삭제하면서 consumer 에 넘기고 넘긴 개수를 리턴하는 메소드
+
+        기본 구현은 poll 을 반복하며, 배열로 구현한 큐는 크기 조정을 한 번만 확인하도록 직접 구현한다.
+     */
+
+    default int drainTo(E[] array, int offset, int maxElements) {
+        if (offset < 0 || offset > array.length) throw new IndexOutOfBoundsException();
+
+        int limit = Math.min(maxElements, array.length - offset);
+        int count = 0;
+        E item;
+
+        while (count < limit && (item = poll()) != null) {
+            array[offset + count] = item;
+            count++;
+        }
+
+        return count;
+    }
+
+    /*
+        최대 maxElements 개의 데이터를 순서대로 삭제하면서 array 의 offset 위치부터 담고 담은 개수를 리턴하는 메소드
+
+        array 에 남은 공간이 더 적으면 남은 공간만큼만 담는다.
+     */
+
+    default int offerAll(E[] array, int from, int to) {
+        if (from < 0 || to > array.length || from > to) throw new IndexOutOfBoundsException();
+
+        int count = 0;
+
+        for (int i = from; i < to && offer(array[i]); i++) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /*
+        array 의 from 부터 to 직전까지의 데이터를 순서대로 넣고 넣은 개수를 리턴하는 메소드
+
+        크기가 정해진 큐는 가득 차면 멈추기 때문에 리턴값이 to - from 보다 작을 수 있다.
+     */
+
+    default Spliterator<E> spliterator() {
+        throw new UnsupportedOperationException("순회를 지원하지 않는 큐입니다. drainTo 로 꺼내어 사용하세요.");
+    }
+
+    /*
+        Queue 의 요소를 꺼내지 않고 앞에서부터 나누어 반복하는 Spliterator 를 반환하는 메소드
+
+        배열로 구현한 큐는 위치 구간을 반으로 나누고, 연결 리스트로 구현한 큐는 반복자에서 묶음 ( batch ) 단위로 꺼내어 나눈다.
+
+        여러 스레드가 함께 사용하는 큐 ( Blocking / 락 프리 / 링 버퍼 등 ) 는 순회하지 않고 drainTo 로 꺼내어 사용하므로 구현하지 않는다.
+     */
+
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /*
+        spliterator 를 사용하는 순차 / 병렬 스트림을 반환하는 메소드
+     */
+
 
 }
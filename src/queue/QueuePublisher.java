@@ -0,0 +1,303 @@
+package queue;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class QueuePublisher<E> implements Flow.Publisher<E>, AutoCloseable {
+
+    /*
+        # 큐를 버퍼로 사용하는 Flow.Publisher
+
+        ArrayQueue 나 LinkedListDeque 에 생산자가 계속 넣기만 하면 소비자가 느릴 때 큐가 끝없이 커지다가 OutOfMemoryError 가 발생한다.
+
+        이 Publisher 는 구독자마다 크기가 정해진 BlockingArrayQueue 를 버퍼로 두고, 구독자가 request(n) 으로 요청한 만큼만 전달한다.
+
+        - submit : 모든 구독자의 버퍼에 데이터를 넣는다. 버퍼가 가득 찬 경우에는 OverflowStrategy 에 따라 처리한다.
+        - 전달   : executor 에서 실행되며 버퍼에서 요청한 개수와 batchSize 중 작은 만큼을 drainTo 로 한 번에 꺼낸 뒤 onNext 로 넘긴다.
+        - close  : 버퍼에 남은 데이터를 모두 전달한 뒤 onComplete 를 보낸다.
+
+        한 구독자에 대한 전달은 wip 카운터로 한 번에 하나의 스레드만 실행하므로 onNext / onComplete / onError 가 겹치지 않는다.
+
+        onNext 가 예외를 던지면 구독을 취소하고 그 예외를 onError 로 보낸다. ( Reactive Streams 2.13 )
+
+        구독이 끝난 뒤 ( close 와 동시에 submit 한 경우 등 ) 버퍼에 남아 구독자에게 전달하지 못한 데이터는 droppedCount 에 더한다.
+     */
+
+    // 구독자의 버퍼가 가득 찼을 때의 처리 방법
+    public enum OverflowStrategy {
+        BLOCK, // 공간이 생길 때까지 submit 이 기다린다.
+        DROP_OLDEST, // 버퍼에서 가장 오래된 데이터를 버리고 넣는다.
+        DROP_NEWEST, // 새로운 데이터를 버린다.
+        ERROR // 구독을 취소하고 onError 로 알린다.
+    }
+
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final OverflowStrategy strategy;
+
+    private final CopyOnWriteArrayList<QueueSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder dropped = new LongAdder(); // 버퍼가 가득 찼거나 구독이 끝나서 전달하지 못하고 버려진 데이터 개수
+
+    private volatile boolean closed;
+
+    public QueuePublisher(int bufferCapacity, OverflowStrategy strategy) {
+        this(ForkJoinPool.commonPool(), bufferCapacity, DEFAULT_BATCH_SIZE, strategy);
+    }
+
+    public QueuePublisher(Executor executor, int bufferCapacity, int batchSize, OverflowStrategy strategy) {
+
+        if (bufferCapacity < 1) throw new IllegalArgumentException("bufferCapacity 는 1 이상이어야 합니다.");
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다.");
+
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+
+        if (subscriber == null) throw new NullPointerException();
+
+        QueueSubscription subscription = new QueueSubscription(subscriber);
+
+        subscriber.onSubscribe(subscription);
+
+        subscriptions.add(subscription);
+
+        // close 와 동시에 구독한 경우에도 onComplete 를 받을 수 있도록 추가한 뒤에 확인한다.
+        if (closed) subscription.complete(null);
+    }
+
+    // 모든 구독자의 버퍼에 데이터를 넣는 메소드, BLOCK 전략에서는 공간이 생길 때까지 기다린다.
+    public void submit(E item) throws InterruptedException {
+
+        if (item == null) throw new NullPointerException();
+        if (closed) throw new IllegalStateException("닫힌 Publisher 입니다.");
+
+        for (QueueSubscription subscription : subscriptions) {
+            subscription.enqueue(item);
+        }
+    }
+
+    // 버퍼에 남은 데이터를 모두 전달한 뒤 onComplete 를 보내는 메소드
+    @Override
+    public void close() {
+        closed = true;
+
+        for (QueueSubscription subscription : subscriptions) {
+            subscription.complete(null);
+        }
+    }
+
+    // 버퍼에 남은 데이터를 버리고 바로 onError 를 보내는 메소드
+    public void closeExceptionally(Throwable error) {
+
+        if (error == null) throw new NullPointerException();
+
+        closed = true;
+
+        for (QueueSubscription subscription : subscriptions) {
+            subscription.complete(error);
+        }
+    }
+
+    // 이하 설명 생략
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private final class QueueSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super E> subscriber;
+        private final BlockingArrayQueue<E> buffer = new BlockingArrayQueue<>(bufferCapacity);
+        private final E[] batch;
+
+        private final AtomicLong demand = new AtomicLong(); // 구독자가 요청했지만 아직 전달하지 않은 개수
+        private final AtomicInteger wip = new AtomicInteger(); // 전달을 예약한 횟수
+
+        private volatile boolean done; // 더 이상 데이터가 들어오지 않는다.
+        private volatile Throwable error; // 남은 데이터를 버리고 바로 보낼 오류
+        private volatile boolean cancelled;
+
+        @SuppressWarnings("unchecked")
+        QueueSubscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+            this.batch = (E[]) new Object[batchSize];
+        }
+
+        void enqueue(E item) throws InterruptedException {
+
+            if (cancelled) return;
+
+            switch (strategy) {
+                case BLOCK:
+                    // 구독이 취소되면 버퍼를 비우므로 기다리던 put 도 빠져나온다.
+                    buffer.put(item);
+                    break;
+                case DROP_OLDEST:
+                    while (!buffer.offer(item)) {
+                        if (buffer.poll() != null) dropped.increment();
+                    }
+                    break;
+                case DROP_NEWEST:
+                    if (!buffer.offer(item)) dropped.increment();
+                    break;
+                case ERROR:
+                    if (!buffer.offer(item)) {
+                        dropped.increment();
+                        complete(new IllegalStateException("구독자의 버퍼가 가득 찼습니다. ( capacity : " + bufferCapacity + " )"));
+                        return;
+                    }
+                    break;
+            }
+
+            // 넣는 사이에 구독이 끝났다면 ( release 가 버퍼를 비운 뒤라면 ) 넣은 데이터는 전달되지 않으므로 직접 버린다.
+            if (cancelled) {
+                purge();
+                return;
+            }
+
+            schedule();
+        }
+
+        void complete(Throwable cause) {
+            if (cause != null) error = cause;
+
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+
+            if (cancelled) return;
+
+            // 0 이하의 요청은 규약 위반이므로 onError 로 알린다. ( Reactive Streams 3.9 )
+            if (n <= 0) {
+                complete(new IllegalArgumentException("request 는 0 보다 커야 합니다 : " + n));
+                return;
+            }
+
+            demand.getAndUpdate(current -> {
+                long sum = current + n;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) executor.execute(this);
+        }
+
+        // 요청한 만큼 버퍼에서 꺼내 전달하는 메소드, schedule 이 여러 번 호출되어도 하나의 스레드만 실행한다.
+        @Override
+        public void run() {
+            int missed = 1;
+
+            do {
+                if (cancelled) {
+                    release();
+                    return;
+                }
+
+                if (error != null) {
+                    release();
+                    subscriber.onError(error);
+                    return;
+                }
+
+                long requested = demand.get();
+                long emitted = 0;
+
+                while (emitted < requested) {
+                    boolean finished = done;
+                    int n = buffer.drainTo(batch, 0, (int) Math.min(batchSize, requested - emitted));
+
+                    if (n == 0) {
+                        if (finished && error == null) {
+                            release();
+                            subscriber.onComplete();
+                            return;
+                        }
+
+                        break;
+                    }
+
+                    for (int i = 0; i < n; i++) {
+                        E item = batch[i];
+                        batch[i] = null;
+
+                        if (cancelled) continue;
+
+                        try {
+                            subscriber.onNext(item);
+                        } catch (Throwable e) {
+                            // 남은 배치와 버퍼를 버리고 구독을 끝낸다. ( wip 를 줄이지 않아도 취소된 구독은 다시 실행되지 않는다. )
+                            for (int j = i + 1; j < n; j++) {
+                                batch[j] = null;
+                                dropped.increment();
+                            }
+
+                            release();
+                            subscriber.onError(e);
+                            return;
+                        }
+                    }
+
+                    emitted += n;
+                }
+
+                // 요청한 만큼 모두 전달한 뒤에도 끝났는지 확인한다. ( 요청이 0 이어도 onComplete 는 보낼 수 있다. )
+                if (emitted == requested && done && error == null && buffer.isEmpty() && !cancelled) {
+                    release();
+                    subscriber.onComplete();
+                    return;
+                }
+
+                if (emitted != 0 && requested != Long.MAX_VALUE) demand.addAndGet(-emitted);
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        // 구독을 끝내고 버퍼를 비워서 기다리던 생산자를 깨우는 메소드
+        private void release() {
+            cancelled = true;
+            subscriptions.remove(this);
+
+            purge();
+        }
+
+        // 버퍼에 남은 데이터를 버리고 버린 개수를 dropped 에 더하는 메소드
+        private void purge() {
+            while (buffer.poll() != null) {
+                dropped.increment();
+            }
+        }
+    }
+}
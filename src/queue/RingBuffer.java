@@ -0,0 +1,355 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+    MpmcArrayQueue 와 같은 방법으로 Sequence 의 값이 다른 필드와 같은 캐시 라인에 놓이지 않도록 하는 패딩 클래스들
+ */
+abstract class RingBufferSequencePad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class RingBufferSequenceValue extends RingBufferSequencePad0 {
+    volatile long value;
+}
+
+abstract class RingBufferSequencePad1 extends RingBufferSequenceValue {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+public class RingBuffer<E> {
+
+    /*
+        # 여러 소비자가 모든 이벤트를 차례대로 보는 링 버퍼 ( Disruptor )
+
+        ArrayQueue 와 같은 원형 배열이지만 요소를 꺼내서 없애는 대신, 각 소비자가 자신이 어디까지 읽었는지를
+
+        Sequence 로 따로 기억한다. 그래서 하나의 이벤트를 여러 소비자 ( 저널, 복제, 비즈니스 로직 ) 가 복사 없이 모두 볼 수 있다.
+
+        - 이벤트 칸은 생성할 때 factory 로 모두 만들어두고, 생산자는 칸의 내용만 바꾼다. ( 이후 할당이나 복사가 없다. )
+        - 생산자는 cursor 를 CAS 로 늘려서 칸을 차지 ( next ) 하고, 내용을 채운 뒤 공개 ( publish ) 한다.
+        - 여러 생산자가 차지한 순서와 공개한 순서가 다를 수 있으므로 칸마다 몇 번째 바퀴에 공개되었는지를 available 에 기록한다.
+        - 소비자는 의존하는 소비자들의 Sequence ( 없으면 cursor ) 까지만 읽을 수 있다. 이것으로 소비자 사이의 순서를 정한다.
+          예) 저널과 복제가 끝난 이벤트만 비즈니스 로직이 처리하도록 할 수 있다.
+        - 생산자는 가장 느린 소비자보다 한 바퀴 이상 앞서지 않도록 기다린다.
+
+        기다리는 방법은 WaitStrategy 로 바꿀 수 있다.
+
+        - BUSY_SPIN : 계속 확인한다. 지연이 가장 짧지만 코어를 하나 차지한다.
+        - YIELD     : 잠시 확인하다가 Thread.yield 로 다른 스레드에 양보한다.
+        - PARK      : 잠시 확인하다가 LockSupport.parkNanos 로 잠든다. CPU 사용이 가장 적지만 지연이 길다.
+     */
+
+    // 소비자나 생산자가 어디까지 진행했는지를 나타내는 번호
+    public static final class Sequence extends RingBufferSequencePad1 {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(RingBufferSequenceValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        public Sequence(long initial) {
+            VALUE.setRelease(this, initial);
+        }
+
+        public long get() {
+            return (long) VALUE.getAcquire(this);
+        }
+
+        public void set(long value) {
+            VALUE.setRelease(this, value);
+        }
+
+        boolean compareAndSet(long expected, long value) {
+            return VALUE.compareAndSet(this, expected, value);
+        }
+    }
+
+    // 기다리는 동안 attempts 번째 확인이 실패할 때마다 호출되는 대기 전략
+    @FunctionalInterface
+    public interface WaitStrategy {
+
+        void idle(int attempts);
+
+        WaitStrategy BUSY_SPIN = attempts -> Thread.onSpinWait();
+
+        WaitStrategy YIELD = attempts -> {
+            if (attempts < 100) Thread.onSpinWait();
+            else Thread.yield();
+        };
+
+        WaitStrategy PARK = attempts -> {
+            if (attempts < 100) Thread.onSpinWait();
+            else if (attempts < 200) Thread.yield();
+            else LockSupport.parkNanos(1_000L);
+        };
+    }
+
+    // 소비자가 이벤트를 처리하는 메소드, endOfBatch 는 지금 읽을 수 있는 이벤트 중 마지막인지를 나타낸다.
+    @FunctionalInterface
+    public interface EventHandler<E> {
+        void onEvent(E event, long sequence, boolean endOfBatch);
+    }
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final Object[] events; // 미리 만들어둔 이벤트 칸
+    private final int[] available; // 칸마다 공개된 바퀴 번호 ( sequence >>> shift )
+    private final int mask; // capacity - 1
+    private final int shift; // log2(capacity)
+    private final WaitStrategy waitStrategy;
+
+    private final Sequence cursor = new Sequence(-1); // 생산자가 마지막으로 차지한 번호
+    private volatile Sequence[] gatingSequences = new Sequence[0]; // 생산자가 앞지르면 안 되는 소비자들
+    private long gatingCache = -1; // 마지막으로 확인한 가장 느린 소비자의 위치 ( 근삿값이어도 괜찮다. )
+
+    public RingBuffer(int capacity, Supplier<? extends E> factory) {
+        this(capacity, factory, WaitStrategy.YIELD);
+    }
+
+    public RingBuffer(int capacity, Supplier<? extends E> factory, WaitStrategy waitStrategy) {
+
+        if (capacity < 2) throw new IllegalArgumentException("capacity 는 2 이상이어야 합니다.");
+        if (capacity > (1 << 30)) throw new IllegalArgumentException("capacity 가 너무 큽니다.");
+
+        // 2 의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.events = new Object[size];
+        this.available = new int[size];
+        this.mask = size - 1;
+        this.shift = Integer.numberOfTrailingZeros(size);
+        this.waitStrategy = waitStrategy;
+
+        for (int i = 0; i < size; i++) {
+            events[i] = factory.get();
+        }
+
+        Arrays.fill(available, -1);
+    }
+
+    // 칸 하나를 차지하고 그 번호를 반환하는 메소드, 가장 느린 소비자가 한 바퀴 뒤에 있으면 기다린다.
+    public long next() {
+        return next(1);
+    }
+
+    // 연속된 n 개의 칸을 차지하고 마지막 번호를 반환하는 메소드
+    public long next(int n) {
+
+        if (n < 1 || n > mask + 1) throw new IllegalArgumentException("n 은 1 이상 capacity 이하여야 합니다.");
+
+        int attempts = 0;
+
+        while (true) {
+            long current = cursor.get();
+            long next = current + n;
+            long wrapPoint = next - (mask + 1); // 이 번호까지는 모든 소비자가 읽었어야 한다.
+            long cached = gatingCache;
+
+            if (wrapPoint > cached || cached > current) {
+                long min = minimumSequence(current);
+
+                if (wrapPoint > min) {
+                    waitStrategy.idle(attempts++);
+                    continue;
+                }
+
+                gatingCache = min;
+            } else if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    // sequence 번호의 이벤트 칸을 반환하는 메소드, 생산자는 차지한 칸의 내용을 바꾸고 소비자는 읽기만 한다.
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) events[(int) sequence & mask];
+    }
+
+    // 내용을 채운 칸을 소비자에게 공개하는 메소드
+    public void publish(long sequence) {
+        AVAILABLE.setRelease(available, (int) sequence & mask, (int) (sequence >>> shift));
+    }
+
+    public void publish(long lo, long hi) {
+        for (long s = lo; s <= hi; s++) {
+            publish(s);
+        }
+    }
+
+    // 칸을 차지하고 translator 로 내용을 채운 뒤 공개하는 메소드, translator 에서 예외가 발생해도 칸은 공개된다.
+    public void publishEvent(Consumer<? super E> translator) {
+        long sequence = next();
+
+        try {
+            translator.accept(get(sequence));
+        } finally {
+            publish(sequence);
+        }
+    }
+
+    // handler 로 모든 이벤트를 처리하는 소비자를 만드는 메소드, dependsOn 의 소비자들이 처리한 이벤트만 받는다.
+    public Processor<E> newProcessor(EventHandler<? super E> handler, Sequence... dependsOn) {
+        Processor<E> processor = new Processor<>(this, handler, dependsOn.clone());
+
+        addGatingSequence(processor.sequence);
+
+        return processor;
+    }
+
+    // 생산자가 마지막으로 차지한 번호
+    public long cursor() {
+        return cursor.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private boolean isAvailable(long sequence) {
+        return (int) AVAILABLE.getAcquire(available, (int) sequence & mask) == (int) (sequence >>> shift);
+    }
+
+    // lo 부터 upTo 까지 중 끊기지 않고 공개된 마지막 번호를 반환하는 메소드
+    private long highestPublished(long lo, long upTo) {
+        for (long s = lo; s <= upTo; s++) {
+            if (!isAvailable(s)) return s - 1;
+        }
+
+        return upTo;
+    }
+
+    private long minimumSequence(long min) {
+        for (Sequence sequence : gatingSequences) {
+            min = Math.min(min, sequence.get());
+        }
+
+        return min;
+    }
+
+    private synchronized void addGatingSequence(Sequence sequence) {
+        Sequence[] current = gatingSequences;
+        Sequence[] updated = Arrays.copyOf(current, current.length + 1);
+
+        // 추가되기 전의 이벤트를 기다리지 않도록 현재 cursor 부터 시작한다.
+        sequence.set(cursor.get());
+        updated[current.length] = sequence;
+
+        gatingSequences = updated;
+    }
+
+    private synchronized void removeGatingSequence(Sequence sequence) {
+        Sequence[] current = gatingSequences;
+
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == sequence) {
+                Sequence[] updated = new Sequence[current.length - 1];
+
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+
+                gatingSequences = updated;
+                return;
+            }
+        }
+    }
+
+    // 하나의 스레드에서 run 을 실행하여 이벤트를 차례대로 처리하는 소비자
+    public static final class Processor<E> implements Runnable {
+
+        private final RingBuffer<E> ringBuffer;
+        private final EventHandler<? super E> handler;
+        private final Sequence[] dependsOn;
+        private final Sequence sequence = new Sequence(-1); // 처리를 마친 마지막 번호
+
+        private volatile boolean running = true;
+
+        private Processor(RingBuffer<E> ringBuffer, EventHandler<? super E> handler, Sequence[] dependsOn) {
+            this.ringBuffer = ringBuffer;
+            this.handler = handler;
+            this.dependsOn = dependsOn;
+        }
+
+        // 이 소비자가 처리를 마친 번호, 다른 소비자의 dependsOn 으로 넘겨 순서를 정할 수 있다.
+        public Sequence sequence() {
+            return sequence;
+        }
+
+        // handler 가 예외를 던지면 halt 하여 생산자가 더 이상 이 소비자를 기다리지 않도록 한 뒤 예외를 그대로 던진다.
+        // ( 이 소비자의 sequence 에 의존하는 다른 소비자는 더 진행하지 못하므로 함께 halt 해야 한다. )
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            boolean completed = false;
+
+            try {
+                while (running) {
+                    long availableSequence = waitFor(next);
+
+                    if (availableSequence < next) continue; // halt 된 경우
+
+                    // 읽을 수 있는 이벤트를 한 번에 처리한 뒤 처리한 위치는 한 번만 공개한다.
+                    try {
+                        while (next <= availableSequence) {
+                            handler.onEvent(ringBuffer.get(next), next, next == availableSequence);
+                            next++;
+                        }
+                    } finally {
+                        sequence.set(next - 1);
+                    }
+                }
+
+                completed = true;
+            } finally {
+                if (!completed) halt();
+            }
+        }
+
+        // 더 이상 이벤트를 처리하지 않도록 멈추고, 생산자가 이 소비자를 기다리지 않도록 한다.
+        public void halt() {
+            running = false;
+            ringBuffer.removeGatingSequence(sequence);
+        }
+
+        // sequence 번호의 이벤트를 읽을 수 있을 때까지 기다린 뒤 읽을 수 있는 마지막 번호를 반환하는 메소드
+        private long waitFor(long sequence) {
+            int attempts = 0;
+
+            while (running) {
+                long upTo = dependsOn.length == 0 ? ringBuffer.cursor.get() : minimum(dependsOn);
+
+                if (upTo >= sequence) {
+                    // cursor 까지 차지되었어도 아직 공개되지 않은 칸이 있을 수 있다.
+                    long published = ringBuffer.highestPublished(sequence, upTo);
+
+                    if (published >= sequence) return published;
+                }
+
+                ringBuffer.waitStrategy.idle(attempts++);
+            }
+
+            return sequence - 1;
+        }
+
+        private static long minimum(Sequence[] sequences) {
+            long min = Long.MAX_VALUE;
+
+            for (Sequence s : sequences) {
+                min = Math.min(min, s.get());
+            }
+
+            return min;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package queue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+public class SegmentedArrayQueue<E> implements QueueInterface<E>, Iterable<E> {
+
+    /*
+        # 고정 크기 배열 조각을 연결한 큐 ( Segmented Array Queue )
+
+        LinkedLIstQueue 는 offer 마다 노드를 하나씩 만들기 때문에 요소마다 객체 헤더와 포인터만큼의 메모리를 더 쓰고,
+
+        노드가 힙 여기저기에 흩어져 있어 차례대로 읽을 때 캐시를 잘 활용하지 못한다.
+
+        ArrayQueue 는 요소가 배열에 모여 있지만 크기를 바꿀 때마다 모든 요소를 새로운 배열로 복사한다.
+
+        이 큐는 chunkSize 크기의 배열 조각 ( Chunk ) 을 연결 리스트처럼 이어 붙인다.
+
+        - offer : tail 조각이 가득 차면 새로운 조각을 뒤에 연결한다. 기존 요소는 절대 복사하지 않는다.
+        - poll  : head 조각을 모두 꺼내면 다음 조각으로 넘어가고, 다 쓴 조각은 spare 로 남겨두었다가 다시 사용한다.
+
+        한 조각 안에서는 배열처럼 연속된 메모리를 읽고, 노드 할당은 chunkSize 개의 요소마다 한 번뿐이다.
+     */
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024; // 기본 조각 크기
+
+    // 배열 조각
+    private static final class Chunk {
+        final Object[] items;
+        Chunk next;
+
+        Chunk(int size) {
+            this.items = new Object[size];
+        }
+    }
+
+    private final int chunkSize;
+
+    private Chunk head; // 가장 먼저 꺼낼 요소가 있는 조각
+    private int headIndex; // head 조각에서 다음에 꺼낼 위치
+    private Chunk tail; // 마지막 요소가 있는 조각
+    private int tailIndex; // tail 조각에서 다음에 추가할 위치
+    private Chunk spare; // 다 쓴 뒤 다시 사용하기 위해 남겨둔 조각
+    private int size;
+
+    public SegmentedArrayQueue() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public SegmentedArrayQueue(int chunkSize) {
+
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize 는 1 이상이어야 합니다.");
+
+        this.chunkSize = chunkSize;
+        this.head = this.tail = new Chunk(chunkSize);
+    }
+
+    // tail 조각이 가득 찬 경우 spare 조각 또는 새로운 조각을 뒤에 연결하는 메소드
+    private void appendChunk() {
+        Chunk chunk = spare;
+
+        if (chunk != null) {
+            spare = null;
+        } else {
+            chunk = new Chunk(chunkSize);
+        }
+
+        tail.next = chunk;
+        tail = chunk;
+        tailIndex = 0;
+    }
+
+    // head 조각을 다 꺼낸 뒤 호출하여 다음 조각으로 넘어가거나, 큐가 비었으면 현재 조각을 처음부터 다시 쓰는 메소드
+    private void advanceHead() {
+        if (size == 0) {
+            headIndex = tailIndex = 0;
+            return;
+        }
+
+        if (headIndex == chunkSize) {
+            Chunk old = head;
+
+            head = old.next;
+            headIndex = 0;
+
+            old.next = null;
+            spare = old;
+        }
+    }
+
+    @Override
+    public boolean offer(E item) {
+
+        if (tailIndex == chunkSize) appendChunk();
+
+        tail.items[tailIndex++] = item;
+        size++;
+
+        return true;
+    }
+
+    // 조각 단위로 System.arraycopy 하여 한 번에 추가하는 offerAll 메소드
+    @Override
+    public int offerAll(E[] values, int from, int to) {
+
+        if (from < 0 || to > values.length || from > to) throw new IndexOutOfBoundsException();
+
+        int i = from;
+
+        while (i < to) {
+            if (tailIndex == chunkSize) appendChunk();
+
+            int n = Math.min(to - i, chunkSize - tailIndex);
+
+            System.arraycopy(values, i, tail.items, tailIndex, n);
+
+            tailIndex += n;
+            size += n;
+            i += n;
+        }
+
+        return to - from;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+
+        if (size == 0) return null;
+
+        E item = (E) head.items[headIndex];
+        head.items[headIndex++] = null;
+        size--;
+
+        advanceHead();
+
+        return item;
+    }
+
+    // 조각 단위로 System.arraycopy 하여 한 번에 꺼내는 drainTo 메소드
+    @Override
+    public int drainTo(E[] dest, int offset, int maxElements) {
+
+        if (offset < 0 || offset > dest.length) throw new IndexOutOfBoundsException();
+
+        int count = Math.min(Math.min(maxElements, size), dest.length - offset);
+        int drained = 0;
+
+        while (drained < count) {
+            int n = Math.min(count - drained, chunkSize - headIndex);
+
+            System.arraycopy(head.items, headIndex, dest, offset + drained, n);
+
+            Arrays.fill(head.items, headIndex, headIndex + n, null);
+
+            headIndex += n;
+            size -= n;
+            drained += n;
+
+            advanceHead();
+        }
+
+        return Math.max(drained, 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super E> consumer, int maxElements) {
+
+        int count = Math.min(maxElements, size);
+        int drained = 0;
+
+        while (drained < count) {
+            E item = (E) head.items[headIndex];
+            head.items[headIndex++] = null;
+            size--;
+            drained++;
+
+            advanceHead();
+
+            consumer.accept(item);
+        }
+
+        return drained;
+    }
+
+    public E remove() {
+
+        E removed = poll();
+
+        if (removed == null) throw new NoSuchElementException();
+
+        return removed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+
+        if (size == 0) return null;
+
+        return (E) head.items[headIndex];
+    }
+
+    public E element() {
+
+        E element = peek();
+
+        if (element == null) throw new NoSuchElementException();
+
+        return element;
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(Object value) {
+
+        int index = headIndex;
+
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next, index = 0) {
+            int end = chunk == tail ? tailIndex : chunkSize;
+
+            for (int i = index; i < end; i++) {
+                if (value.equals(chunk.items[i])) return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void clear() {
+
+        for (Chunk chunk = head; chunk != null; ) {
+            Chunk next = chunk.next;
+
+            Arrays.fill(chunk.items, null);
+            chunk.next = null;
+
+            chunk = next;
+        }
+
+        // 첫 번째 조각만 남겨두고 처음부터 다시 사용한다.
+        tail = head;
+        headIndex = tailIndex = 0;
+        size = 0;
+    }
+
+    // head 조각의 headIndex 부터 조각 안의 배열을 차례대로 읽는 반복자 ( 큐에서 요소를 꺼내지 않는다. )
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Chunk chunk = head;
+            private int index = headIndex;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (remaining == 0) throw new NoSuchElementException();
+
+                if (index == chunkSize) {
+                    chunk = chunk.next;
+                    index = 0;
+                }
+
+                remaining--;
+                return (E) chunk.items[index++];
+            }
+        };
+    }
+
+    // 조각을 따라가는 반복자에서 요소를 묶음 ( batch ) 단위로 꺼내어 나누는 Spliterator
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+}
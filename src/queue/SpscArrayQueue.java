@@ -0,0 +1,229 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/*
+    MpmcArrayQueue 와 같은 방법으로 생산자 필드와 소비자 필드를 서로 다른 캐시 라인에 배치하기 위한 패딩 클래스들
+ */
+abstract class SpscArrayQueuePad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscArrayQueueProducerFields extends SpscArrayQueuePad0 {
+    long tail; // 다음에 추가할 위치 ( 생산자만 변경 )
+    long headCache; // 생산자가 마지막으로 확인한 head
+}
+
+abstract class SpscArrayQueuePad1 extends SpscArrayQueueProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscArrayQueueConsumerFields extends SpscArrayQueuePad1 {
+    long head; // 다음에 꺼낼 위치 ( 소비자만 변경 )
+    long tailCache; // 소비자가 마지막으로 확인한 tail
+}
+
+abstract class SpscArrayQueuePad2 extends SpscArrayQueueConsumerFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
+
+public class SpscArrayQueue<E> extends SpscArrayQueuePad2 implements QueueInterface<E> {
+
+    /*
+        # 단일 생산자 / 단일 소비자 원형 큐 ( SPSC Ring Buffer )
+
+        offer 하는 스레드와 poll 하는 스레드가 각각 하나뿐인 경우에만 사용할 수 있는 원형 큐이다.
+
+        tail 은 생산자만, head 는 소비자만 바꾸기 때문에 CAS 가 필요 없고 순서가 보장되는 쓰기 ( release ) 와
+
+        읽기 ( acquire ) 만으로 충분하다. 모든 연산이 반복 없이 끝나므로 wait-free 이다.
+
+        - 생산자는 요소를 채운 뒤 tail 을 release 로 공개하고, 소비자는 tail 을 acquire 로 읽은 뒤 요소를 읽는다.
+        - 소비자는 칸을 비운 뒤 head 를 release 로 공개하고, 생산자는 head 를 acquire 로 읽은 뒤 그 칸을 다시 채운다.
+
+        상대방의 위치는 캐시 ( headCache, tailCache ) 에 기억해두고 공간이나 요소가 부족해 보일 때만 다시 읽기 때문에
+
+        다른 코어의 캐시 라인을 읽어오는 횟수가 크게 줄어든다.
+
+        offerAll / drainTo 는 여러 요소를 옮긴 뒤 위치를 한 번만 공개한다.
+     */
+
+    private static final VarHandle TAIL;
+    private static final VarHandle HEAD;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(SpscArrayQueueProducerFields.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(SpscArrayQueueConsumerFields.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] array; // 요소를 담는 배열
+    private final int mask; // capacity - 1
+
+    public SpscArrayQueue(int capacity) {
+
+        if (capacity < 2) throw new IllegalArgumentException("capacity 는 2 이상이어야 합니다.");
+        if (capacity > (1 << 30)) throw new IllegalArgumentException("capacity 가 너무 큽니다.");
+
+        // 2 의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.array = new Object[size];
+        this.mask = size - 1;
+    }
+
+    // 생산자 스레드에서만 호출해야 하는 offer 메소드, 가득 차 있으면 false 를 반환한다.
+    @Override
+    public boolean offer(E item) {
+
+        if (item == null) throw new NullPointerException();
+
+        long t = tail;
+
+        if (t - headCache > mask) {
+            headCache = (long) HEAD.getAcquire(this);
+
+            if (t - headCache > mask) return false;
+        }
+
+        array[(int) t & mask] = item;
+        TAIL.setRelease(this, t + 1);
+
+        return true;
+    }
+
+    // values[from, to) 를 들어갈 수 있는 만큼 추가하고 추가한 개수를 반환하는 offerAll 메소드 ( 생산자 전용 )
+    @Override
+    public int offerAll(E[] values, int from, int to) {
+
+        if (from < 0 || to > values.length || from > to) throw new IndexOutOfBoundsException();
+
+        long t = tail;
+        int count = to - from;
+
+        if (count == 0) return 0;
+
+        long free = mask + 1 - (t - headCache);
+
+        if (free < count) {
+            headCache = (long) HEAD.getAcquire(this);
+            free = mask + 1 - (t - headCache);
+        }
+
+        count = (int) Math.min(count, free);
+
+        for (int i = from; i < from + count; i++) {
+            if (values[i] == null) throw new NullPointerException();
+        }
+
+        // 배열의 끝을 넘어가는 경우 두 번에 나누어 복사한다.
+        int start = (int) t & mask;
+        int first = Math.min(count, mask + 1 - start);
+
+        System.arraycopy(values, from, array, start, first);
+        System.arraycopy(values, from + first, array, 0, count - first);
+
+        TAIL.setRelease(this, t + count);
+
+        return count;
+    }
+
+    // 소비자 스레드에서만 호출해야 하는 poll 메소드, 비어있으면 null 을 반환한다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+
+        long h = head;
+
+        if (h >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+
+            if (h >= tailCache) return null;
+        }
+
+        int idx = (int) h & mask;
+
+        E item = (E) array[idx];
+        array[idx] = null;
+
+        HEAD.setRelease(this, h + 1);
+
+        return item;
+    }
+
+    // 최대 maxElements 개의 요소를 꺼내 consumer 에 넘기고 꺼낸 개수를 반환하는 drainTo 메소드 ( 소비자 전용 )
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super E> consumer, int maxElements) {
+
+        long h = head;
+
+        if (h + maxElements > tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+        }
+
+        int count = (int) Math.min(maxElements, tailCache - h);
+
+        if (count <= 0) return 0;
+
+        int drained = 0;
+
+        // consumer 에서 예외가 발생해도 이미 꺼낸 요소까지는 head 에 반영한다.
+        try {
+            while (drained < count) {
+                int idx = (int) (h + drained) & mask;
+
+                E item = (E) array[idx];
+                array[idx] = null;
+                drained++;
+
+                consumer.accept(item);
+            }
+        } finally {
+            HEAD.setRelease(this, h + drained);
+        }
+
+        return count;
+    }
+
+    // 소비자 스레드에서만 호출해야 하는 peek 메소드
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+
+        long h = head;
+
+        if (h >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+
+            if (h >= tailCache) return null;
+        }
+
+        return (E) array[(int) h & mask];
+    }
+
+    // 이하 설명 생략
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // 다른 스레드에서 호출하면 근삿값이다.
+    public int size() {
+        long h = (long) HEAD.getAcquire(this);
+        long t = (long) TAIL.getAcquire(this);
+        long size = t - h;
+
+        if (size < 0) return 0;
+        return (int) Math.min(size, mask + 1);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,150 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public class WorkStealingDeque<E> {
+
+    /*
+        # 작업 훔치기 덱 ( Chase-Lev Work-Stealing Deque )
+
+        ArrayDeque 의 offerLast / pollLast / pollFirst 처럼 한쪽 끝은 주인 스레드가, 다른 쪽 끝은 다른 스레드들이 사용하는 덱이다.
+
+        - push  : 주인만 호출한다. bottom 에 추가하며 CAS 가 필요 없다.
+        - pop   : 주인만 호출한다. bottom 에서 꺼내므로 가장 최근에 넣은 작업 ( LIFO ) 을 꺼낸다.
+        - steal : 누구나 호출할 수 있다. top 에서 CAS 로 꺼내므로 가장 오래된 작업 ( FIFO ) 을 가져간다.
+
+        주인과 도둑은 서로 다른 끝을 사용하기 때문에 요소가 두 개 이상이면 부딪히지 않고,
+
+        마지막 하나가 남았을 때만 주인도 top 을 CAS 하여 도둑과 경쟁한다.
+
+        top 과 bottom 은 계속 증가하는 값이고 배열의 위치는 & mask 로 구한다. 가득 차면 주인이 두 배 크기의 배열로 옮긴다.
+
+        옛 배열의 칸은 덮어쓰지 않기 때문에 옮기는 도중에 옛 배열을 읽은 도둑도 올바른 요소를 가져간다.
+     */
+
+    private static final int DEFAULT_CAPACITY = 64; // 기본 자료구조 크기
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDeque.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDeque.class, "bottom", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long top; // 도둑이 꺼낼 위치
+    private volatile long bottom; // 주인이 다음에 추가할 위치
+    private volatile Object[] array; // 2 의 거듭제곱 크기의 원형 배열
+
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public WorkStealingDeque(int capacity) {
+
+        if (capacity < 2) throw new IllegalArgumentException("capacity 는 2 이상이어야 합니다.");
+        if (capacity > (1 << 30)) throw new IllegalArgumentException("capacity 가 너무 큽니다.");
+
+        // 2 의 거듭제곱으로 올림
+        this.array = new Object[Integer.highestOneBit(capacity - 1) << 1];
+    }
+
+    // 옛 배열의 [top, bottom) 을 두 배 크기의 새로운 배열로 옮기는 resize 메소드 ( 주인 전용 )
+    private Object[] resize(Object[] old, long t, long b) {
+        Object[] newArray = new Object[old.length * 2];
+
+        int oldMask = old.length - 1;
+        int newMask = newArray.length - 1;
+
+        for (long i = t; i < b; i++) {
+            newArray[(int) i & newMask] = old[(int) i & oldMask];
+        }
+
+        array = newArray;
+
+        return newArray;
+    }
+
+    // bottom 에 요소를 추가하는 push 메소드 ( 주인 전용 )
+    public void push(E item) {
+
+        if (item == null) throw new NullPointerException();
+
+        long b = bottom;
+        long t = (long) TOP.getAcquire(this);
+        Object[] a = array;
+
+        if (b - t > a.length - 1) a = resize(a, t, b);
+
+        ELEMENT.setRelease(a, (int) b & (a.length - 1), item);
+        BOTTOM.setRelease(this, b + 1);
+    }
+
+    // bottom 에서 가장 최근에 추가한 요소를 꺼내는 pop 메소드 ( 주인 전용 ), 비어있으면 null 을 반환한다.
+    @SuppressWarnings("unchecked")
+    public E pop() {
+
+        long b = bottom - 1;
+        Object[] a = array;
+
+        // bottom 을 먼저 줄여서 도둑이 이 칸을 가져가지 못하도록 알린 뒤 top 을 읽는다. ( volatile 쓰기와 읽기이므로 순서가 바뀌지 않는다. )
+        bottom = b;
+        long t = top;
+
+        if (t > b) { // 비어있는 덱
+            bottom = b + 1;
+            return null;
+        }
+
+        E item = (E) a[(int) b & (a.length - 1)];
+
+        if (t == b) {
+            // 마지막 하나가 남은 경우 도둑과 경쟁하여 top 을 차지해야 한다.
+            if (!TOP.compareAndSet(this, t, t + 1)) item = null;
+
+            bottom = b + 1;
+            return item;
+        }
+
+        a[(int) b & (a.length - 1)] = null;
+
+        return item;
+    }
+
+    // top 에서 가장 오래된 요소를 훔치는 steal 메소드, 비어있거나 다른 스레드와의 경쟁에서 지면 null 을 반환한다.
+    @SuppressWarnings("unchecked")
+    public E steal() {
+
+        long t = top;
+        long b = bottom;
+
+        if (t >= b) return null;
+
+        Object[] a = array;
+        E item = (E) ELEMENT.getAcquire(a, (int) t & (a.length - 1));
+
+        // 다른 도둑이나 주인이 먼저 가져간 경우
+        if (!TOP.compareAndSet(this, t, t + 1)) return null;
+
+        return item;
+    }
+
+    // 이하 설명 생략
+    public int size() {
+        long size = bottom - top;
+
+        if (size < 0) return 0;
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return bottom <= top;
+    }
+}
@@ -0,0 +1,272 @@
+package queue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+public class WorkStealingScheduler {
+
+    /*
+        # 작업 훔치기 스케줄러 ( Fork-Join 방식 )
+
+        코어마다 하나의 작업 스레드 ( Worker ) 를 두고, 스레드마다 자신의 WorkStealingDeque 를 가진다.
+
+        - fork : 현재 작업 스레드의 덱에 작은 작업을 넣는다. ( 주인만 사용하므로 CAS 가 없다. )
+        - 작업 스레드는 자신의 덱에서 가장 최근에 넣은 작업부터 꺼내 실행하기 때문에 캐시에 남아있는 데이터를 이어서 사용한다.
+        - 자신의 덱이 비면 무작위로 고른 다른 스레드의 덱에서 가장 오래된 작업 ( 보통 가장 큰 작업 ) 을 훔친다.
+        - join : 기다리는 동안 가만히 있지 않고 자신의 덱이나 다른 덱의 작업을 대신 실행한다.
+
+        모든 스레드가 하나의 큐를 나누어 쓰는 방식과 달리, 분할 정복 작업에서는 대부분의 push / pop 이 자신의 덱에서 끝나므로
+
+        스레드 사이의 경쟁이 훔칠 때만 생긴다.
+
+        외부 스레드에서 넣은 작업은 ConcurrentLinkedListQueue 에 담아두고 일이 없는 작업 스레드가 가져간다.
+
+        일이 없는 작업 스레드는 잠시 양보하다가 짧게 잠들었다가 ( parkNanos ) 다시 확인한다.
+
+        shutdown 하면 실행 중인 작업은 끝까지 실행하고, 아직 시작하지 않은 작업 ( 외부에서 넣은 작업과 덱에 남은 작업 ) 은
+
+        CancellationException 으로 끝내서 join 으로 기다리던 스레드가 영원히 기다리지 않도록 한다.
+     */
+
+    // 분할 정복 작업의 기본 클래스, compute 안에서 작은 작업을 fork 하고 join 으로 결과를 받는다.
+    public abstract static class Task<V> {
+
+        private volatile boolean done;
+        private V result;
+        private Throwable exception;
+
+        protected abstract V compute();
+
+        // 현재 작업 스레드의 덱에 이 작업을 넣는 메소드 ( 작업 스레드 안에서만 호출할 수 있다. )
+        public final Task<V> fork() {
+            Thread current = Thread.currentThread();
+
+            if (!(current instanceof Worker)) throw new IllegalStateException("fork 는 작업 스레드 안에서만 호출할 수 있습니다.");
+
+            ((Worker) current).deque.push(this);
+
+            return this;
+        }
+
+        // 작업이 끝날 때까지 기다렸다가 결과를 반환하는 메소드, 작업 스레드는 기다리는 동안 다른 작업을 실행한다.
+        public final V join() {
+            Thread current = Thread.currentThread();
+
+            if (current instanceof Worker) {
+                ((Worker) current).helpUntil(this);
+            } else {
+                awaitExternally();
+            }
+
+            return report();
+        }
+
+        public final boolean isDone() {
+            return done;
+        }
+
+        private void run() {
+            try {
+                result = compute();
+            } catch (Throwable e) {
+                exception = e;
+            }
+
+            complete();
+        }
+
+        // shutdown 으로 실행하지 못한 작업을 CancellationException 으로 끝내는 메소드
+        private void cancel() {
+            exception = new CancellationException("스케줄러가 종료되어 실행하지 못한 작업입니다.");
+
+            complete();
+        }
+
+        private void complete() {
+            done = true;
+
+            // 외부 스레드가 기다리고 있다면 깨운다.
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+
+        private synchronized void awaitExternally() {
+            boolean interrupted = false;
+
+            while (!done) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        private V report() {
+            Throwable e = exception;
+
+            if (e == null) return result;
+            if (e instanceof RuntimeException) throw (RuntimeException) e;
+            if (e instanceof Error) throw (Error) e;
+
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class Worker extends Thread {
+
+        private final WorkStealingScheduler scheduler;
+        private final WorkStealingDeque<Task<?>> deque = new WorkStealingDeque<>();
+
+        Worker(WorkStealingScheduler scheduler, int index) {
+            super("work-stealing-worker-" + index);
+            this.scheduler = scheduler;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+
+            while (scheduler.running) {
+                Task<?> task = findTask();
+
+                if (task != null) {
+                    task.run();
+                    idle = 0;
+                } else {
+                    idle(idle++);
+                }
+            }
+        }
+
+        // 기다리는 작업이 끝날 때까지 다른 작업을 대신 실행하는 메소드
+        void helpUntil(Task<?> target) {
+            int idle = 0;
+
+            while (!target.isDone()) {
+                Task<?> task = findTask();
+
+                if (task != null) {
+                    task.run();
+                    idle = 0;
+                } else if (idle++ < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+
+        // 자신의 덱 → 무작위로 고른 다른 덱 → 외부에서 넣은 작업 순서로 찾는다.
+        private Task<?> findTask() {
+            Task<?> task = deque.pop();
+
+            if (task != null) return task;
+
+            Worker[] workers = scheduler.workers;
+            int n = workers.length;
+            int start = ThreadLocalRandom.current().nextInt(n);
+
+            for (int i = 0; i < n; i++) {
+                Worker victim = workers[(start + i) % n];
+
+                if (victim != this && (task = victim.deque.steal()) != null) return task;
+            }
+
+            return scheduler.submissions.poll();
+        }
+
+        private static void idle(int attempts) {
+            if (attempts < 64) Thread.onSpinWait();
+            else if (attempts < 128) Thread.yield();
+            else LockSupport.parkNanos(50_000L);
+        }
+    }
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedListQueue<Task<?>> submissions = new ConcurrentLinkedListQueue<>(); // 외부에서 넣은 작업
+    private volatile boolean running = true;
+
+    public WorkStealingScheduler() { // 코어 개수만큼 작업 스레드를 만드는 생성자
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public WorkStealingScheduler(int parallelism) {
+
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism 은 1 이상이어야 합니다.");
+
+        this.workers = new Worker[parallelism];
+
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(this, i);
+        }
+
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    // 작업을 넣고 바로 반환하는 메소드, 결과는 task.join() 으로 받는다.
+    public <V> Task<V> submit(Task<V> task) {
+
+        if (!running) throw new IllegalStateException("종료된 스케줄러입니다.");
+
+        Thread current = Thread.currentThread();
+
+        // 이 스케줄러의 작업 스레드에서 넣은 작업은 자신의 덱에 넣는다.
+        if (current instanceof Worker && ((Worker) current).scheduler == this) {
+            ((Worker) current).deque.push(task);
+        } else {
+            submissions.offer(task);
+
+            // offer 하는 사이에 shutdown 이 남은 작업을 정리했을 수 있으므로 다시 확인한다.
+            if (!running) cancelRemaining();
+        }
+
+        return task;
+    }
+
+    // 작업을 넣고 끝날 때까지 기다렸다가 결과를 반환하는 메소드
+    public <V> V invoke(Task<V> task) {
+        return submit(task).join();
+    }
+
+    // 작업 스레드들을 멈추는 메소드, 실행 중인 작업이 끝날 때까지 기다린 뒤 시작하지 않은 작업은 모두 CancellationException 으로 끝낸다.
+    public void shutdown() throws InterruptedException {
+        running = false;
+
+        for (Worker worker : workers) {
+            worker.join();
+        }
+
+        cancelRemaining();
+    }
+
+    // 외부에서 넣은 작업과 작업 스레드의 덱에 남은 작업을 꺼내 취소하는 메소드 ( 꺼낸 스레드만 취소하므로 한 작업은 한 번만 끝난다. )
+    private void cancelRemaining() {
+        Task<?> task;
+
+        while ((task = submissions.poll()) != null) {
+            task.cancel();
+        }
+
+        // 작업 스레드가 모두 끝난 뒤에는 주인이 없으므로 steal 로 꺼낸다.
+        for (Worker worker : workers) {
+            if (worker.isAlive()) continue;
+
+            // steal 은 다른 스레드와의 경쟁에서 지면 null 을 반환하므로 덱이 빌 때까지 반복한다.
+            while (!worker.deque.isEmpty()) {
+                if ((task = worker.deque.steal()) != null) task.cancel();
+            }
+        }
+    }
+
+    public int parallelism() {
+        return workers.length;
+    }
+}
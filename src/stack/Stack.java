@@ -2,6 +2,8 @@ package stack;
 
 import java.util.Arrays;
 import java.util.EmptyStackException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /*
     # Stack ( 스택 )
@@ -51,6 +53,8 @@ public class Stack < E > implements StackInterface < E >{
         // 배열에 데이터가 가득찬 경우 크기를 늘려준다.
         if (size == arrayCapacity) {
             int newSize = arrayCapacity * 2;
+
+            array = Arrays.copyOf(array, newSize);
             return;
         }
 
@@ -139,4 +143,10 @@ public class Stack < E > implements StackInterface < E >{
     public boolean empty(){
         return size == 0;
     }
+
+    // 배열의 [0, size) 구간 ( 하단부터 상단 순서 ) 을 반으로 나누는 Spliterator ( SIZED | SUBSIZED )
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
 }
@@ -3,6 +3,7 @@ package stack;
 import list.ArrayList;
 
 import java.util.EmptyStackException;
+import java.util.stream.Stream;
 
 /*
     기존에 구현했던 ArrayList 클래스를 이용하면 Stack 을 쉽게 구현해볼 수 있다.
@@ -63,4 +64,15 @@ public class StackExtendArrayList < E > extends ArrayList< E > implements StackI
     public boolean empty() {
         return size() == 0;
     }
+
+    // List 와 StackInterface 의 기본 메소드가 겹치므로 하나를 고른다. ( 둘 다 ArrayList 의 spliterator 를 사용하므로 결과는 같다. )
+    @Override
+    public Stream<E> stream() {
+        return StackInterface.super.stream();
+    }
+
+    @Override
+    public Stream<E> parallelStream() {
+        return StackInterface.super.parallelStream();
+    }
 }
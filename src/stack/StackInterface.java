@@ -1,5 +1,9 @@
 package stack;
 
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /*
 
   자바 stack Interface입니다. <br>
@@ -76,4 +80,29 @@ public interface StackInterface < E >{
      * @return 스택에 요소가 없을 경우 {@code true}, 그 외의 경우 {@code false}를 반환
      */
     boolean empty();
+
+    /**
+     * 스택의 요소를 하단부터 상단 순서로 나누어 반복할 수 있는 {@code Spliterator} 를 반환합니다.
+     *
+     * @return 스택의 요소를 하단부터 차례대로 반환하는 Spliterator
+     */
+    Spliterator<E> spliterator();
+
+    /**
+     * 스택의 요소를 하단부터 흘려보내는 순차 스트림을 반환합니다.
+     *
+     * @return 스택의 요소에 대한 순차 스트림
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * 스택의 요소를 나누어 처리하는 병렬 스트림을 반환합니다.
+     *
+     * @return 스택의 요소에 대한 병렬 스트림
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }